@@ -0,0 +1,75 @@
+package com.devcourse.global.console;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.devcourse.global.utils.TextAppender.LINE_CAPACITY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ListRenderBenchmark {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private List<Voucher> vouchers;
+    private PrintStream autoFlushing;
+    private Console console;
+
+    @Setup
+    public void setUp() {
+        vouchers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            vouchers.add(new Voucher(i % 100 + 1, LocalDateTime.of(2030, 1, 1, 0, 0).plusMinutes(i), Voucher.Type.PERCENT));
+        }
+
+        autoFlushing = new PrintStream(OutputStream.nullOutputStream(), true, UTF_8);
+        PrintWriter buffered = new PrintWriter(new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), UTF_8), BUFFER_SIZE), false);
+        console = Console.batch(new BufferedReader(Reader.nullReader()), buffered);
+    }
+
+    @Benchmark
+    public void textPerLine() {
+        List<String> lines = vouchers.stream()
+                .map(Voucher::toText)
+                .toList();
+
+        for (String line : lines) {
+            autoFlushing.println(line);
+        }
+    }
+
+    @Benchmark
+    public void streamed() {
+        StringBuilder line = new StringBuilder(LINE_CAPACITY);
+
+        for (Voucher voucher : vouchers) {
+            line.setLength(0);
+            console.print(voucher.appendTo(line));
+        }
+
+        console.flush();
+    }
+}
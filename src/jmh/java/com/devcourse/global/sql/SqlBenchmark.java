@@ -0,0 +1,80 @@
+package com.devcourse.global.sql;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SqlBenchmark {
+    private static final QueryShape SELECT_BY_ID = QueryShape.select(Voucher.class)
+            .where(Where.builder()
+                    .condition("id")
+                    .build());
+
+    @Benchmark
+    public String selectAll() {
+        return Select.builder()
+                .select(Voucher.class)
+                .build()
+                .getQuery();
+    }
+
+    @Benchmark
+    public String selectById() {
+        return Select.builder()
+                .select(Voucher.class)
+                .where(
+                        Where.builder()
+                                .condition("id")
+                                .build()
+                ).build()
+                .getQuery();
+    }
+
+    @Benchmark
+    public String insert() {
+        return Insert.builder()
+                .into(Voucher.class)
+                .values("id", "discount", "expired_at", "type", "status")
+                .build()
+                .getQuery();
+    }
+
+    @Benchmark
+    public String update() {
+        return Update.builder()
+                .table(Voucher.class)
+                .values("status")
+                .where(
+                        Where.builder()
+                                .condition("id")
+                                .build()
+                ).build()
+                .getQuery();
+    }
+
+    @Benchmark
+    public String delete() {
+        return Delete.builder()
+                .from(Voucher.class)
+                .where(
+                        Where.builder()
+                                .condition("id")
+                                .build()
+                ).build()
+                .getQuery();
+    }
+
+    @Benchmark
+    public String cachedSelectById() {
+        return QueryCache.get(SELECT_BY_ID).sql();
+    }
+}
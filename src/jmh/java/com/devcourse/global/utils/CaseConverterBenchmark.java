@@ -0,0 +1,30 @@
+package com.devcourse.global.utils;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CaseConverterBenchmark {
+    @Param({"id", "expiredAt", "discountPolicyCreatedAt"})
+    private String field;
+
+    @Benchmark
+    public String fieldName() {
+        return CaseConverter.toSnakeCase(field);
+    }
+
+    @Benchmark
+    public String className() {
+        return CaseConverter.toSnakeCase(Voucher.class);
+    }
+}
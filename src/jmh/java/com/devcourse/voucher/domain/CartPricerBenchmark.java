@@ -0,0 +1,62 @@
+package com.devcourse.voucher.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CartPricerBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    private int lines;
+
+    @Param({"FIXED", "PERCENT"})
+    private Voucher.Type type;
+
+    private Voucher voucher;
+    private long[] amounts;
+    private long[] results;
+
+    @Setup
+    public void setUp() {
+        voucher = new Voucher(type.isPercent() ? 15 : 3_000, LocalDateTime.of(2030, 1, 1, 0, 0), type);
+        amounts = new long[lines];
+        results = new long[lines];
+
+        Random random = new Random(lines);
+        for (int i = 0; i < lines; i++) {
+            amounts[i] = random.nextInt(1_000_000);
+        }
+    }
+
+    @Benchmark
+    public long[] perLine() {
+        DiscountPolicy policy = voucher.policy();
+        for (int i = 0; i < lines; i++) {
+            results[i] = policy.discountMinorUnits(amounts[i], voucher.discount());
+        }
+        return results;
+    }
+
+    @Benchmark
+    public long[] sequential() {
+        CartPricer.priceSequential(voucher, amounts, results);
+        return results;
+    }
+
+    @Benchmark
+    public long[] parallel() {
+        CartPricer.priceParallel(voucher, amounts, results);
+        return results;
+    }
+}
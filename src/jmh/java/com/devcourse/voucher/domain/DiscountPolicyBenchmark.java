@@ -0,0 +1,49 @@
+package com.devcourse.voucher.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DiscountPolicyBenchmark {
+    private final DiscountPolicy fixed = new FixedAmountPolicy();
+    private final DiscountPolicy percent = new PercentDiscountPolicy();
+
+    private long target = 12_900;
+    private int amount = 3_000;
+    private int rate = 15;
+
+    @Benchmark
+    public BigDecimal fixedAmount() {
+        return fixed.discount(target, amount);
+    }
+
+    @Benchmark
+    public BigDecimal percent() {
+        return percent.discount(target, rate);
+    }
+
+    @Benchmark
+    public long fixedAmountMinorUnits() {
+        return fixed.discountMinorUnits(target, amount);
+    }
+
+    @Benchmark
+    public long percentMinorUnits() {
+        return percent.discountMinorUnits(target, rate);
+    }
+
+    @Benchmark
+    public long percentMinorUnitsHalfEven() {
+        return percent.discountMinorUnits(target, rate, RoundingMode.HALF_EVEN);
+    }
+}
@@ -0,0 +1,64 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.devcourse.voucher.domain.Voucher.Status.ISSUED;
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+import static com.devcourse.voucher.domain.Voucher.Type.PERCENT;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ColumnarVoucherRepositoryBenchmark {
+    private static final LocalDateTime EXPIRED_AT = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"memory", "columnar"})
+    private String profile;
+
+    @Param({"1000000"})
+    private int size;
+
+    private AbstractVoucherRepository voucherRepository;
+    private Voucher stored;
+
+    @Setup
+    public void setUp() {
+        voucherRepository = profile.equals("columnar") ? new ColumnarVoucherRepository() : new MemoryVoucherRepository();
+
+        for (int i = 0; i < size; i++) {
+            stored = voucherRepository.save(new Voucher(i % 100 + 1, EXPIRED_AT.plusMinutes(i), i % 2 == 0 ? FIXED : PERCENT));
+        }
+    }
+
+    @Benchmark
+    public Optional<Voucher> findById() {
+        return voucherRepository.findById(stored.id());
+    }
+
+    @Benchmark
+    public List<Voucher> findAllByWeek() {
+        return voucherRepository.findAllBy(ISSUED, PERCENT, EXPIRED_AT, EXPIRED_AT.plusWeeks(1));
+    }
+
+    @Benchmark
+    public int countByWeek() {
+        if (voucherRepository instanceof ColumnarVoucherRepository columnar) {
+            return columnar.countBy(ISSUED, PERCENT, EXPIRED_AT, EXPIRED_AT.plusWeeks(1));
+        }
+
+        return voucherRepository.findAllBy(ISSUED, PERCENT, EXPIRED_AT, EXPIRED_AT.plusWeeks(1)).size();
+    }
+}
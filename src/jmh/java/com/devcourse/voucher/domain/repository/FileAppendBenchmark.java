@@ -0,0 +1,68 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileAppendBenchmark {
+    private static final LocalDateTime EXPIRED_AT = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final long FSYNC_INTERVAL_MILLIS = 10;
+
+    @Param({"ALWAYS", "INTERVAL", "NEVER"})
+    private FsyncPolicy fsyncPolicy;
+
+    private Path file;
+    private FileVoucherRepository voucherRepository;
+    private Voucher voucher;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("vouchers", ".txt");
+        voucherRepository = new FileVoucherRepository(file.toString(), VoucherFileFormat.TEXT, fsyncPolicy, FSYNC_INTERVAL_MILLIS);
+        voucher = new Voucher(1000, EXPIRED_AT, FIXED);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        voucherRepository.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Voucher saveWith1Thread() {
+        return voucherRepository.save(voucher);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Voucher saveWith4Threads() {
+        return voucherRepository.save(voucher);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Voucher saveWith16Threads() {
+        return voucherRepository.save(voucher);
+    }
+}
@@ -0,0 +1,71 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+import static com.devcourse.voucher.domain.Voucher.Type.PERCENT;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileVoucherRepositoryBenchmark {
+    private static final LocalDateTime EXPIRED_AT = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"TEXT", "BINARY"})
+    private VoucherFileFormat format;
+
+    private Path file;
+    private FileVoucherRepository voucherRepository;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("vouchers", ".dat");
+        Files.delete(file);
+
+        FileVoucherRepository writer = new FileVoucherRepository(file.toString(), format, FsyncPolicy.NEVER, 0);
+        writer.saveAll(IntStream.range(0, size)
+                .mapToObj(i -> new Voucher(i % 100 + 1, EXPIRED_AT, i % 2 == 0 ? FIXED : PERCENT))
+                .toList());
+        writer.close();
+
+        voucherRepository = new FileVoucherRepository(file.toString(), format, FsyncPolicy.NEVER, 0);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        voucherRepository.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<Voucher> findAll() {
+        return voucherRepository.findAll();
+    }
+
+    @Benchmark
+    public FileVoucherRepository startup() throws IOException {
+        FileVoucherRepository reopened = new FileVoucherRepository(file.toString(), format, FsyncPolicy.NEVER, 0);
+        reopened.close();
+        return reopened;
+    }
+}
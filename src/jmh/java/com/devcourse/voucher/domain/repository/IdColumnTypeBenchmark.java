@@ -0,0 +1,68 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.global.sql.IdColumnType;
+import com.devcourse.voucher.domain.Voucher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IdColumnTypeBenchmark {
+    private static final LocalDateTime EXPIRED_AT = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final int STORED = 100_000;
+
+    @Param({"VARCHAR", "BINARY"})
+    private IdColumnType idType;
+
+    private final UUID[] ids = new UUID[STORED];
+    private StorageProfile storage;
+    private VoucherRepository voucherRepository;
+    private int cursor;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        storage = StorageProfile.jdbc(idType);
+        voucherRepository = storage.repository();
+
+        Voucher[] vouchers = new Voucher[STORED];
+        for (int i = 0; i < STORED; i++) {
+            vouchers[i] = new Voucher(i % 100 + 1, EXPIRED_AT, FIXED);
+            ids[i] = vouchers[i].id();
+        }
+        voucherRepository.saveAll(List.of(vouchers));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        storage.close();
+    }
+
+    @Benchmark
+    public Voucher insert() {
+        return voucherRepository.save(new Voucher(1000, EXPIRED_AT, FIXED));
+    }
+
+    @Benchmark
+    public Optional<Voucher> findById() {
+        cursor = (cursor + 1) % STORED;
+        return voucherRepository.findById(ids[cursor]);
+    }
+}
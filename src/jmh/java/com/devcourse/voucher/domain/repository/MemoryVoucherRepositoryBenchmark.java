@@ -0,0 +1,87 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.devcourse.voucher.domain.Voucher.Type.PERCENT;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemoryVoucherRepositoryBenchmark {
+    private static final int POOL_SIZE = 1 << 16;
+    private static final int STORED = 10_000;
+    private static final LocalDateTime EXPIRED_AT = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private final Voucher[] pool = new Voucher[POOL_SIZE];
+    private MemoryVoucherRepository voucherRepository;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next() {
+            return next++ & (POOL_SIZE - 1);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        voucherRepository = new MemoryVoucherRepository();
+
+        for (int i = 0; i < POOL_SIZE; i++) {
+            pool[i] = new Voucher(i % 100 + 1, EXPIRED_AT, PERCENT);
+        }
+
+        for (int i = 0; i < STORED; i++) {
+            voucherRepository.save(pool[i]);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Voucher saveWith1Thread(Cursor cursor) {
+        return voucherRepository.save(pool[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Voucher saveWith4Threads(Cursor cursor) {
+        return voucherRepository.save(pool[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Voucher saveWith16Threads(Cursor cursor) {
+        return voucherRepository.save(pool[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<Voucher> findAllWith1Thread() {
+        return voucherRepository.findAll();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Voucher> findAllWith4Threads() {
+        return voucherRepository.findAll();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public List<Voucher> findAllWith16Threads() {
+        return voucherRepository.findAll();
+    }
+}
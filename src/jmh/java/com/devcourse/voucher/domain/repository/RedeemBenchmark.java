@@ -0,0 +1,94 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static com.devcourse.voucher.domain.Voucher.Type.PERCENT;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class RedeemBenchmark {
+    private static final LocalDateTime EXPIRED_AT = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final String DOUBLE_REDEMPTION = "Voucher redeemed twice : ";
+
+    @Param({"memory", "columnar", "file", "dev"})
+    private String profile;
+
+    @Param({"1", "16"})
+    private int hotKeys;
+
+    private StorageProfile storage;
+    private VoucherRepository voucherRepository;
+    private UUID[] ids;
+    private AtomicIntegerArray holders;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Redemptions {
+        public long redeemed;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            redeemed = 0;
+            rejected = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        storage = StorageProfile.open(profile);
+        voucherRepository = storage.repository();
+        ids = new UUID[hotKeys];
+        holders = new AtomicIntegerArray(hotKeys);
+
+        for (int i = 0; i < hotKeys; i++) {
+            ids[i] = voucherRepository.save(new Voucher(10, EXPIRED_AT, PERCENT)).id();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        storage.close();
+    }
+
+    @Benchmark
+    public boolean redeem(Redemptions redemptions) {
+        int key = ThreadLocalRandom.current().nextInt(hotKeys);
+        UUID id = ids[key];
+
+        if (!voucherRepository.redeem(id)) {
+            redemptions.rejected++;
+            return false;
+        }
+
+        if (holders.incrementAndGet(key) != 1) {
+            throw new IllegalStateException(DOUBLE_REDEMPTION + id);
+        }
+
+        redemptions.redeemed++;
+        holders.decrementAndGet(key);
+        voucherRepository.updateStatus(id, Voucher.Status.ISSUED.name());
+        return true;
+    }
+}
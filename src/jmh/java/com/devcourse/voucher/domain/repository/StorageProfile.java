@@ -0,0 +1,73 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.global.sql.IdColumnType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+final class StorageProfile implements AutoCloseable {
+    private static final String SCHEMA = "classpath:schema.sql";
+    private static final String BINARY_SCHEMA = "classpath:schema-binary.sql";
+    private static final int BATCH_SIZE = 1000;
+    private static final int FETCH_SIZE = 500;
+    private static final long FSYNC_INTERVAL_MILLIS = 10;
+
+    private final VoucherRepository repository;
+    private final Path file;
+    private final EmbeddedDatabase database;
+
+    private StorageProfile(VoucherRepository repository, Path file, EmbeddedDatabase database) {
+        this.repository = repository;
+        this.file = file;
+        this.database = database;
+    }
+
+    static StorageProfile open(String profile) throws IOException {
+        return switch (profile) {
+            case "memory" -> new StorageProfile(new MemoryVoucherRepository(), null, null);
+            case "columnar" -> new StorageProfile(new ColumnarVoucherRepository(), null, null);
+            case "file" -> {
+                Path file = Files.createTempFile("vouchers", ".txt");
+                FileVoucherRepository repository = new FileVoucherRepository(file.toString(), VoucherFileFormat.TEXT, FsyncPolicy.ALWAYS, FSYNC_INTERVAL_MILLIS);
+                yield new StorageProfile(repository, file, null);
+            }
+            case "dev" -> jdbc(IdColumnType.VARCHAR);
+            default -> throw new IllegalArgumentException("Unknown Profile : " + profile);
+        };
+    }
+
+    static StorageProfile jdbc(IdColumnType idType) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript(idType == IdColumnType.BINARY ? BINARY_SCHEMA : SCHEMA)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+
+        return new StorageProfile(new JdbcVoucherRepository(jdbcTemplate, BATCH_SIZE, FETCH_SIZE, idType), null, database);
+    }
+
+    VoucherRepository repository() {
+        return repository;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (repository instanceof FileVoucherRepository fileRepository) {
+            fileRepository.close();
+        }
+
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+
+        if (database != null) {
+            database.shutdown();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VoucherRepositoryBenchmark {
+    private static final LocalDateTime EXPIRED_AT = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"memory", "columnar", "file", "dev"})
+    private String profile;
+
+    @Param({"1000"})
+    private int size;
+
+    @Param({"100"})
+    private int lookups;
+
+    private StorageProfile storage;
+    private VoucherRepository voucherRepository;
+    private Voucher stored;
+    private List<UUID> ids;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        storage = StorageProfile.open(profile);
+        voucherRepository = storage.repository();
+
+        ids = new ArrayList<>(lookups);
+
+        for (int i = 0; i < size; i++) {
+            stored = voucherRepository.save(new Voucher(i + 1, EXPIRED_AT, FIXED));
+
+            if (i % (size / lookups) == 0) {
+                ids.add(stored.id());
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        storage.close();
+    }
+
+    @Benchmark
+    public Voucher save() {
+        return voucherRepository.save(new Voucher(1000, EXPIRED_AT, FIXED));
+    }
+
+    @Benchmark
+    public List<Voucher> findAll() {
+        return voucherRepository.findAll();
+    }
+
+    @Benchmark
+    public Optional<Voucher> findById() {
+        return voucherRepository.findById(stored.id());
+    }
+
+    @Benchmark
+    public List<Voucher> findByIdEach() {
+        List<Voucher> found = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            voucherRepository.findById(id).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    @Benchmark
+    public List<Voucher> findAllByIds() {
+        return voucherRepository.findAllByIds(ids);
+    }
+}
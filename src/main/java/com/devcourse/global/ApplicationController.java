@@ -2,16 +2,42 @@ package com.devcourse.global;
 
 import com.devcourse.global.console.Console;
 import com.devcourse.global.dto.CreateVoucherRequest;
+import com.devcourse.global.metrics.LatencyRegistry;
+import com.devcourse.global.metrics.LatencySnapshot;
+import com.devcourse.global.metrics.OperationStats;
 import com.devcourse.user.application.UserService;
+import com.devcourse.user.repository.BlackListStats;
+import com.devcourse.user.repository.UserCacheStats;
+import com.devcourse.voucher.application.ExpirationMetrics;
 import com.devcourse.voucher.application.VoucherService;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @Component
 public class ApplicationController implements ApplicationRunner {
+    private record Completion(Command command, long elapsedNanos, String output) {
+    }
+
     private static final String GREETING = """
             === Voucher Program ===
            Type <VOUCHER> to create a new voucher.
@@ -19,72 +45,266 @@ public class ApplicationController implements ApplicationRunner {
            Type <USER> to create a new user.
            Type <USERLIST> to list all users.
            Type <BLACKLIST> to list all black users.
+           Type <STATS> to show repository latencies, cache, filter and expiration counters.
            Type <EXIT> to exit the program.
            """;
     private static final String VOCHER_CREATED = "\n:: Voucher Created ::";
     private static final String USER_CREATED = "\n:: USER Created ::";
     private static final String APPLICATION_ENDED = "\n:: Application Ended ::";
+    private static final String STATS_HEADER = "\n:: Repository Latency (profile=%s) ::";
+    private static final String STATS_COLUMNS = "%-40s %10s %10s %10s %10s %10s %10s";
+    private static final String STATS_FORMAT = "%-40s %10d %10.1f %10.1f %10.1f %10.1f %10.1f";
+    private static final String NO_STATS = "No Repository Calls Recorded.";
+    private static final String USER_CACHE_HEADER = "\n:: User Cache ::";
+    private static final String USER_CACHE_FORMAT = "hits=%d misses=%d hit-rate=%.3f loads=%d evictions=%d size=%d";
+    private static final String BLACKLIST_HEADER = "\n:: Blacklist Filter ::";
+    private static final String BLACKLIST_FORMAT = "ids=%d filter-bytes=%d checks=%d filter-hits=%d filter-hit-rate=%.3f confirmed=%d false-positive-rate=%.4f (target %.4f)";
+    private static final String EXPIRATION_HEADER = "\n:: Voucher Expiration ::";
+    private static final String EXPIRATION_FORMAT = "backlog=%d lag-ms=%d expired=%d";
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final String BATCH_OPTION = "batch";
+    private static final String CONCURRENCY_OPTION = "concurrency";
+    private static final String STANDARD_INPUT = "-";
+    private static final String INVALID_CONCURRENCY = "Concurrency MUST Be Positive Number. Input : ";
+    private static final String BATCH_INTERRUPTED = "Batch Was Interrupted.";
+    private static final int SEQUENTIAL = 1;
+    private static final int PAGE_SIZE = 100;
+    private static final int BUFFER_SIZE = 1 << 16;
 
-    private final Console console = new Console();
     private final VoucherService voucherService;
     private final UserService userService;
+    private final LatencyRegistry latencyRegistry;
 
-    public ApplicationController(VoucherService voucherService, UserService userService) {
+    public ApplicationController(VoucherService voucherService, UserService userService, LatencyRegistry latencyRegistry) {
         this.voucherService = voucherService;
         this.userService = userService;
+        this.latencyRegistry = latencyRegistry;
     }
 
     @Override
-    public void run(ApplicationArguments args) {
+    public void run(ApplicationArguments args) throws IOException {
+        if (args.containsOption(BATCH_OPTION)) {
+            runBatch(args.getOptionValues(BATCH_OPTION), parseConcurrency(args));
+            return;
+        }
+
+        Console console = new Console();
         boolean status = true;
         console.print(GREETING);
 
+        try {
+            while (status) {
+                Command command = console.readCommand();
+                status = executeCommand(console, command);
+            }
+        } finally {
+            console.flush();
+        }
+    }
+
+    private void runBatch(List<String> sources, int concurrency) throws IOException {
+        String source = sources.isEmpty() ? STANDARD_INPUT : sources.get(0);
+
+        try (BufferedReader reader = openScript(source)) {
+            runBatch(Console.batch(reader), concurrency);
+        }
+    }
+
+    void runBatch(Console console, int concurrency) {
+        CommandTimer timer = new CommandTimer();
+        long startedAt = System.nanoTime();
+
+        try {
+            if (concurrency == SEQUENTIAL) {
+                runSequentially(console, timer);
+            } else {
+                runConcurrently(console, timer, concurrency);
+            }
+        } finally {
+            console.print(timer.summary(System.nanoTime() - startedAt));
+            console.flush();
+        }
+    }
+
+    private void runSequentially(Console console, CommandTimer timer) {
+        boolean status = true;
+
         while (status) {
             Command command = console.readCommand();
-            status = executeCommand(command);
+            long startedAt = System.nanoTime();
+            status = executeCommand(console, command);
+            timer.record(command, System.nanoTime() - startedAt);
         }
     }
 
-    private boolean executeCommand(Command command) {
-        switch (command) {
-            case VOUCHER -> createVoucher();
-            case VOUCHERLIST -> listVouchers();
-            case USER -> createUser();
-            case USERLIST -> listUsers();
-            case BLACKLIST -> listBlackUsers();
-            case EXIT -> {
-                console.print(APPLICATION_ENDED);
-                return false;
+    private void runConcurrently(Console console, CommandTimer timer, int concurrency) {
+        Deque<Future<Completion>> pending = new ArrayDeque<>(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            boolean status = true;
+
+            while (status) {
+                Command command = console.readCommand();
+                Consumer<Console> action = readAction(console, command);
+                status = command != Command.EXIT;
+
+                if (command.isQuery() || !status) {
+                    drain(pending, 0, console, timer);
+                    long startedAt = System.nanoTime();
+                    action.accept(console);
+                    timer.record(command, System.nanoTime() - startedAt);
+                    continue;
+                }
+
+                drain(pending, concurrency - 1, console, timer);
+                pending.add(executor.submit(() -> execute(command, action)));
             }
         }
+    }
 
-        return true;
+    private Completion execute(Command command, Consumer<Console> action) {
+        StringWriter buffer = new StringWriter();
+        Console output = Console.batch(new BufferedReader(Reader.nullReader()), new PrintWriter(buffer));
+        long startedAt = System.nanoTime();
+        action.accept(output);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        output.flush();
+        return new Completion(command, elapsedNanos, buffer.toString());
     }
 
-    private void createVoucher() {
-        CreateVoucherRequest request = console.readCreationRequest();
-        voucherService.create(request.discount(), request.expiredAt(), request.type());
-        console.print(VOCHER_CREATED);
+    private void drain(Deque<Future<Completion>> pending, int inFlight, Console console, CommandTimer timer) {
+        while (pending.size() > inFlight) {
+            Completion completion = await(pending.poll());
+            console.write(completion.output());
+            timer.record(completion.command(), completion.elapsedNanos());
+        }
     }
 
-    private void listVouchers() {
-        List<String> responses = voucherService.findAll();
-        console.print(responses);
+    private Completion await(Future<Completion> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(BATCH_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
     }
 
-    private void createUser() {
-        String name = console.readUserName();
-        userService.create(name);
-        console.print(USER_CREATED);
+    private int parseConcurrency(ApplicationArguments args) {
+        if (!args.containsOption(CONCURRENCY_OPTION) || args.getOptionValues(CONCURRENCY_OPTION).isEmpty()) {
+            return SEQUENTIAL;
+        }
+
+        String input = args.getOptionValues(CONCURRENCY_OPTION).get(0);
+
+        try {
+            int concurrency = Integer.parseInt(input);
+
+            if (concurrency < SEQUENTIAL) {
+                throw new IllegalArgumentException(INVALID_CONCURRENCY + input);
+            }
+
+            return concurrency;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_CONCURRENCY + input);
+        }
+    }
+
+    private BufferedReader openScript(String source) throws IOException {
+        if (STANDARD_INPUT.equals(source)) {
+            return new BufferedReader(new InputStreamReader(System.in, UTF_8), BUFFER_SIZE);
+        }
+
+        return Files.newBufferedReader(Path.of(source), UTF_8);
+    }
+
+    private boolean executeCommand(Console console, Command command) {
+        readAction(console, command).accept(console);
+        return command != Command.EXIT;
+    }
+
+    private Consumer<Console> readAction(Console input, Command command) {
+        return switch (command) {
+            case VOUCHER -> createVoucher(input.readCreationRequest());
+            case VOUCHERLIST -> this::listVouchers;
+            case USER -> createUser(input.readUserName());
+            case USERLIST -> this::listUsers;
+            case BLACKLIST -> this::listBlackUsers;
+            case STATS -> this::listStats;
+            case EXIT -> output -> output.print(APPLICATION_ENDED);
+        };
+    }
+
+    private Consumer<Console> createVoucher(CreateVoucherRequest request) {
+        return output -> {
+            voucherService.create(request.discount(), request.expiredAt(), request.type());
+            output.print(VOCHER_CREATED);
+        };
     }
 
-    private void listUsers() {
-        List<String> users = userService.findAll();
-        console.print(users);
+    private void listVouchers(Console console) {
+        voucherService.renderAllByPage(PAGE_SIZE, console::print);
     }
 
-    private void listBlackUsers() {
+    private Consumer<Console> createUser(String name) {
+        return output -> {
+            userService.create(name);
+            output.print(USER_CREATED);
+        };
+    }
+
+    private void listUsers(Console console) {
+        userService.renderAll(console::print);
+    }
+
+    private void listBlackUsers(Console console) {
         List<String> blackList = userService.findAllBlack();
         console.print(blackList);
     }
+
+    private void listStats(Console console) {
+        console.print(STATS_HEADER.formatted(latencyRegistry.profile()));
+        List<OperationStats> stats = latencyRegistry.stats();
+
+        if (stats.isEmpty()) {
+            console.print(NO_STATS);
+        } else {
+            printLatencies(console, stats);
+        }
+
+        UserCacheStats userCache = userService.cacheStats();
+        console.print(USER_CACHE_HEADER);
+        console.print(USER_CACHE_FORMAT.formatted(userCache.hits(), userCache.misses(), userCache.hitRate(),
+                userCache.loads(), userCache.evictions(), userCache.size()));
+
+        BlackListStats blackList = userService.blackListStats();
+        console.print(BLACKLIST_HEADER);
+        console.print(BLACKLIST_FORMAT.formatted(blackList.ids(), blackList.filterBytes(), blackList.checks(),
+                blackList.filterHits(), blackList.filterHitRate(), blackList.confirmed(),
+                blackList.observedFalsePositiveRate(), blackList.falsePositiveRate()));
+
+        ExpirationMetrics expiration = voucherService.expirationMetrics();
+        console.print(EXPIRATION_HEADER);
+        console.print(EXPIRATION_FORMAT.formatted(expiration.backlog(), expiration.lagMillis(), expiration.expired()));
+    }
+
+    private void printLatencies(Console console, List<OperationStats> stats) {
+        console.print(STATS_COLUMNS.formatted("operation", "count", "ops/s", "p50(us)", "p99(us)", "p999(us)", "max(us)"));
+
+        for (OperationStats operation : stats) {
+            LatencySnapshot latency = operation.latency();
+            console.print(STATS_FORMAT.formatted(operation.operation(),
+                    latency.count(),
+                    operation.throughput(),
+                    latency.p50Nanos() / NANOS_PER_MICRO,
+                    latency.p99Nanos() / NANOS_PER_MICRO,
+                    latency.p999Nanos() / NANOS_PER_MICRO,
+                    latency.maxNanos() / NANOS_PER_MICRO));
+        }
+    }
 }
@@ -1,11 +1,22 @@
 package com.devcourse.global;
 
 public enum Command {
-    VOUCHER,
-    VOUCHERLIST,
-    USER,
-    USERLIST,
-    BLACKLIST,
-    EXIT,
+    VOUCHER(false),
+    VOUCHERLIST(true),
+    USER(false),
+    USERLIST(true),
+    BLACKLIST(true),
+    STATS(true),
+    EXIT(false),
     ;
+
+    private final boolean query;
+
+    Command(boolean query) {
+        this.query = query;
+    }
+
+    public boolean isQuery() {
+        return query;
+    }
 }
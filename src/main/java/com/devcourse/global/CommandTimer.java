@@ -0,0 +1,49 @@
+package com.devcourse.global;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class CommandTimer {
+    private static final String SUMMARY_HEADER = "\n:: Batch Summary ::";
+    private static final String SUMMARY_FORMAT = "%-11s count=%d total=%.3fms avg=%.3fms max=%.3fms";
+    private static final String TOTAL_FORMAT = "%-11s count=%d total=%.3fms wall=%.3fms";
+    private static final String TOTAL = "TOTAL";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long[] counts = new long[Command.values().length];
+    private final long[] totalNanos = new long[Command.values().length];
+    private final long[] maxNanos = new long[Command.values().length];
+
+    void record(Command command, long elapsedNanos) {
+        int index = command.ordinal();
+        counts[index]++;
+        totalNanos[index] += elapsedNanos;
+        maxNanos[index] = Math.max(maxNanos[index], elapsedNanos);
+    }
+
+    List<String> summary(long wallNanos) {
+        List<String> lines = new ArrayList<>();
+        lines.add(SUMMARY_HEADER);
+        long count = 0;
+        long nanos = 0;
+
+        for (Command command : Command.values()) {
+            int index = command.ordinal();
+
+            if (counts[index] == 0) {
+                continue;
+            }
+
+            count += counts[index];
+            nanos += totalNanos[index];
+            lines.add(SUMMARY_FORMAT.formatted(command,
+                    counts[index],
+                    totalNanos[index] / NANOS_PER_MILLI,
+                    totalNanos[index] / NANOS_PER_MILLI / counts[index],
+                    maxNanos[index] / NANOS_PER_MILLI));
+        }
+
+        lines.add(TOTAL_FORMAT.formatted(TOTAL, count, nanos / NANOS_PER_MILLI, wallNanos / NANOS_PER_MILLI));
+        return lines;
+    }
+}
@@ -4,16 +4,25 @@ import com.devcourse.global.dto.CreateVoucherRequest;
 import com.devcourse.voucher.domain.Voucher;
 import com.devcourse.global.Command;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Scanner;
-import java.util.regex.Pattern;
+
+import static com.devcourse.global.utils.TextAppender.LINE_CAPACITY;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class Console {
-    private static final Scanner scanner = new Scanner(System.in);
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String UNEXPECTED_END_OF_INPUT = "Input Ended Before The Command Was Complete.";
     private static final String USER_NAME_GUIDE = "\n:: Input User Name,  ::";
     private static final String GET_COMMAND_GUIDE = """
-            \n:: Support Command(CREATE, LIST, BLACKLIST, EXIT) ::
+            \n:: Support Command(CREATE, LIST, BLACKLIST, STATS, EXIT) ::
             Type Command :\s""";
     private static final String VOUCHER_TYPE_GUIDE = """
             \n:: Support Type(fixed, percent) ::
@@ -26,25 +35,98 @@ public class Console {
             Type type of Voucher :\s""";
 
     private final IoParser parser = new IoParser();
+    private final BufferedReader reader;
+    private final PrintWriter writer;
+    private final boolean interactive;
+    private char[] lineBuffer = new char[LINE_CAPACITY];
+
+    public Console() {
+        this(new BufferedReader(new InputStreamReader(System.in, UTF_8)), standardOutput(), true);
+    }
+
+    private Console(BufferedReader reader, PrintWriter writer, boolean interactive) {
+        this.reader = reader;
+        this.writer = writer;
+        this.interactive = interactive;
+    }
+
+    public static Console batch(BufferedReader reader) {
+        return batch(reader, standardOutput());
+    }
+
+    public static Console batch(BufferedReader reader, PrintWriter writer) {
+        return new Console(reader, writer, false);
+    }
 
     public void print(String input) {
-        System.out.println(input);
+        writer.println(input);
     }
 
     public void print(List<String> requests) {
         for (String request : requests) {
-            System.out.println(request);
+            writer.println(request);
         }
     }
 
+    public void print(CharSequence line) {
+        int length = line.length();
+
+        if (lineBuffer.length < length) {
+            lineBuffer = new char[Math.max(length, lineBuffer.length * 2)];
+        }
+
+        if (line instanceof StringBuilder builder) {
+            builder.getChars(0, length, lineBuffer, 0);
+        } else {
+            for (int i = 0; i < length; i++) {
+                lineBuffer[i] = line.charAt(i);
+            }
+        }
+
+        writer.write(lineBuffer, 0, length);
+        writer.println();
+    }
+
+    public void write(String output) {
+        writer.print(output);
+    }
+
+    public void flush() {
+        writer.flush();
+    }
+
     public String read(String message) {
-        System.out.print(message);
-        return scanner.nextLine();
+        if (interactive) {
+            writer.print(message);
+            writer.flush();
+        }
+
+        String line = readLine();
+
+        if (line == null) {
+            throw new IllegalStateException(UNEXPECTED_END_OF_INPUT);
+        }
+
+        return line;
     }
 
     public Command readCommand() {
-        String input = read(GET_COMMAND_GUIDE);
-        return parser.parseCommand(input);
+        String input;
+
+        do {
+            if (interactive) {
+                writer.print(GET_COMMAND_GUIDE);
+                writer.flush();
+            }
+
+            input = readLine();
+
+            if (input == null) {
+                return Command.EXIT;
+            }
+        } while (input.isBlank());
+
+        return parser.parseCommand(input.strip());
     }
 
     public CreateVoucherRequest readCreationRequest() {
@@ -65,4 +147,16 @@ public class Console {
         parser.validateName(name);
         return name;
     }
+
+    private static PrintWriter standardOutput() {
+        return new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, UTF_8), BUFFER_SIZE), false);
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
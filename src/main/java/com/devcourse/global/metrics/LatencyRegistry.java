@@ -0,0 +1,97 @@
+package com.devcourse.global.metrics;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class LatencyRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(LatencyRegistry.class);
+    private static final String OBJECT_NAME_FORMAT = "com.devcourse:type=Latency,profile=%s,operation=%s";
+    private static final String PROFILE_DELIMITER = ",";
+    private static final String JMX_REGISTER_FAILED = "Latency MBean Registration Failed : ";
+    private static final String JMX_UNREGISTER_FAILED = "Latency MBean Unregistration Failed : ";
+
+    private final String profile;
+    private final MBeanServer server;
+    private final Map<String, OperationLatency> operations = new ConcurrentHashMap<>();
+
+    public LatencyRegistry(Environment environment) {
+        this(profileOf(environment), ManagementFactory.getPlatformMBeanServer());
+    }
+
+    LatencyRegistry(String profile, MBeanServer server) {
+        this.profile = profile;
+        this.server = server;
+    }
+
+    public LatencyHistogram histogram(String operation) {
+        return operations.computeIfAbsent(operation, this::register).histogram();
+    }
+
+    public List<OperationStats> stats() {
+        return operations.values().stream()
+                .map(OperationLatency::stats)
+                .sorted(Comparator.comparing(OperationStats::operation))
+                .toList();
+    }
+
+    public String profile() {
+        return profile;
+    }
+
+    @PreDestroy
+    public void close() {
+        for (String operation : operations.keySet()) {
+            try {
+                ObjectName name = objectName(operation);
+
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                logger.error(JMX_UNREGISTER_FAILED + operation, e);
+            }
+        }
+    }
+
+    private OperationLatency register(String operation) {
+        OperationLatency latency = new OperationLatency(operation, profile);
+
+        try {
+            ObjectName name = objectName(operation);
+
+            try {
+                server.registerMBean(latency, name);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(name);
+                server.registerMBean(latency, name);
+            }
+        } catch (JMException e) {
+            logger.error(JMX_REGISTER_FAILED + operation, e);
+        }
+
+        return latency;
+    }
+
+    private ObjectName objectName(String operation) throws JMException {
+        return new ObjectName(OBJECT_NAME_FORMAT.formatted(ObjectName.quote(profile), ObjectName.quote(operation)));
+    }
+
+    private static String profileOf(Environment environment) {
+        String[] profiles = environment.getActiveProfiles();
+        return String.join(PROFILE_DELIMITER, profiles.length == 0 ? environment.getDefaultProfiles() : profiles);
+    }
+}
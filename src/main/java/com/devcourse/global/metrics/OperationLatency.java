@@ -0,0 +1,73 @@
+package com.devcourse.global.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+class OperationLatency implements OperationLatencyMXBean {
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final String operation;
+    private final String profile;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final long startedAt = System.nanoTime();
+
+    OperationLatency(String operation, String profile) {
+        this.operation = operation;
+        this.profile = profile;
+    }
+
+    LatencyHistogram histogram() {
+        return histogram;
+    }
+
+    OperationStats stats() {
+        LatencySnapshot latency = histogram.snapshot();
+        double elapsedSeconds = Math.max(System.nanoTime() - startedAt, 1) / NANOS_PER_SECOND;
+        return new OperationStats(operation, latency.count() / elapsedSeconds, latency);
+    }
+
+    @Override
+    public String getOperation() {
+        return operation;
+    }
+
+    @Override
+    public String getProfile() {
+        return profile;
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.snapshot().count();
+    }
+
+    @Override
+    public double getThroughput() {
+        return stats().throughput();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return histogram.snapshot().meanNanos() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return histogram.snapshot().p50Nanos() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return histogram.snapshot().p99Nanos() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return histogram.snapshot().p999Nanos() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return histogram.snapshot().maxNanos() / NANOS_PER_MICRO;
+    }
+}
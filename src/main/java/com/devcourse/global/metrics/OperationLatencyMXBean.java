@@ -0,0 +1,21 @@
+package com.devcourse.global.metrics;
+
+public interface OperationLatencyMXBean {
+    String getOperation();
+
+    String getProfile();
+
+    long getCount();
+
+    double getThroughput();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+}
@@ -0,0 +1,4 @@
+package com.devcourse.global.metrics;
+
+public record OperationStats(String operation, double throughput, LatencySnapshot latency) {
+}
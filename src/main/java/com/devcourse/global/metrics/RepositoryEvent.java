@@ -0,0 +1,26 @@
+package com.devcourse.global.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.devcourse.Repository")
+@Label("Repository Call")
+@Category({"Voucher Program", "Repository"})
+class RepositoryEvent extends Event {
+    @Label("Profile")
+    String profile;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Rows")
+    @Description("Rows returned or written, -1 when the result is streamed or not reported")
+    long rows;
+
+    @Label("SQL")
+    @Description("Parameterized statements issued during the call")
+    String sql;
+}
@@ -0,0 +1,50 @@
+package com.devcourse.global.metrics;
+
+import com.devcourse.user.repository.BlackListRepository;
+import com.devcourse.user.repository.UserRepository;
+import com.devcourse.voucher.domain.repository.VoucherRepository;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+class RepositoryTimingPostProcessor implements BeanPostProcessor {
+    private static final List<Class<?>> INSTRUMENTED = List.of(
+            VoucherRepository.class,
+            UserRepository.class,
+            BlackListRepository.class
+    );
+
+    private final LatencyRegistry registry;
+    private final boolean enabled;
+
+    public RepositoryTimingPostProcessor(LatencyRegistry registry,
+                                         @Value("${metrics.latency.enabled:true}") boolean enabled) {
+        this.registry = registry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || INSTRUMENTED.stream().noneMatch(type -> type.isInstance(bean))) {
+            return bean;
+        }
+
+        TimingInterceptor interceptor = new TimingInterceptor(registry, AopUtils.getTargetClass(bean).getSimpleName());
+
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(interceptor);
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,105 @@
+package com.devcourse.global.metrics;
+
+import com.devcourse.global.sql.QueryTrace;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+class TimingInterceptor implements MethodInterceptor {
+    private record Operation(String name, LatencyHistogram histogram) {
+    }
+
+    private static final String OPERATION_DELIMITER = ".";
+    private static final long UNKNOWN_ROWS = -1;
+
+    private final LatencyRegistry registry;
+    private final String target;
+    private final Map<Method, Operation> operations = new ConcurrentHashMap<>();
+
+    TimingInterceptor(LatencyRegistry registry, String target) {
+        this.registry = registry;
+        this.target = target;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        Operation operation = operations.computeIfAbsent(method, this::operationOf);
+        RepositoryEvent event = new RepositoryEvent();
+        boolean recording = event.isEnabled();
+
+        if (recording) {
+            QueryTrace.begin();
+            event.begin();
+        }
+
+        long startedAt = System.nanoTime();
+        Object result = null;
+
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            operation.histogram().record(System.nanoTime() - startedAt);
+
+            if (recording) {
+                event.end();
+                String sql = QueryTrace.end();
+
+                if (event.shouldCommit()) {
+                    event.profile = registry.profile();
+                    event.operation = operation.name();
+                    event.rows = rowsOf(result, invocation.getArguments());
+                    event.sql = sql;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    private Operation operationOf(Method method) {
+        String name = target + OPERATION_DELIMITER + method.getName();
+        return new Operation(name, registry.histogram(name));
+    }
+
+    private long rowsOf(Object result, Object[] arguments) {
+        if (result == null) {
+            return arguments.length == 1 && arguments[0] instanceof Collection<?> written
+                    ? written.size()
+                    : UNKNOWN_ROWS;
+        }
+
+        if (result instanceof Stream<?>) {
+            return UNKNOWN_ROWS;
+        }
+
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+
+        if (result instanceof Boolean updated) {
+            return updated ? 1 : 0;
+        }
+
+        return 1;
+    }
+}
@@ -0,0 +1,6 @@
+package com.devcourse.global.sql;
+
+import java.util.List;
+
+public record CompiledQuery(String sql, List<String> columns) {
+}
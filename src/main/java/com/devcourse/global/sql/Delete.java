@@ -1,14 +1,12 @@
 package com.devcourse.global.sql;
 
-import com.devcourse.global.utils.CaseConverter;
-
 public class Delete implements Sql {
     private static final String DELETE_FORMAT = "DELETE FROM %s";
 
     private final Class<?> from;
     private final Where where;
 
-    private Delete(Class<?> from, Where where) {
+    Delete(Class<?> from, Where where) {
         this.from = from;
         this.where = where;
     }
@@ -67,7 +65,7 @@ public class Delete implements Sql {
 
     @Override
     public String getQuery() {
-        String from = CaseConverter.toSnakeCase(this.from);
+        String from = EntityRegistry.tableOf(this.from);
         String where = this.where == null ? "" : this.where.getQuery();
         return DELETE_FORMAT.formatted(from) + where;
     }
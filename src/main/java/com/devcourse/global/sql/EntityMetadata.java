@@ -0,0 +1,19 @@
+package com.devcourse.global.sql;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+public interface EntityMetadata<T> {
+    Class<T> entity();
+
+    String table();
+
+    List<String> columns();
+
+    RowMapper<T> rowMapper(IdColumnType idType);
+
+    static <T> EntityMetadata<T> of(Class<T> entity) {
+        return EntityRegistry.get(entity);
+    }
+}
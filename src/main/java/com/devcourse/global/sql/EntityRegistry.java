@@ -0,0 +1,45 @@
+package com.devcourse.global.sql;
+
+import com.devcourse.global.utils.CaseConverter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+final class EntityRegistry {
+    private static final String NO_METADATA = "No Generated Metadata For Entity : ";
+    private static final Map<Class<?>, EntityMetadata<?>> METADATA = load();
+
+    private EntityRegistry() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> EntityMetadata<T> get(Class<T> entity) {
+        EntityMetadata<?> metadata = METADATA.get(entity);
+
+        if (metadata == null) {
+            throw new IllegalArgumentException(NO_METADATA + entity.getName());
+        }
+
+        return (EntityMetadata<T>) metadata;
+    }
+
+    static EntityMetadata<?> find(Class<?> entity) {
+        return METADATA.get(entity);
+    }
+
+    static String tableOf(Class<?> entity) {
+        EntityMetadata<?> metadata = METADATA.get(entity);
+        return metadata == null ? CaseConverter.toSnakeCase(entity) : metadata.table();
+    }
+
+    private static Map<Class<?>, EntityMetadata<?>> load() {
+        Map<Class<?>, EntityMetadata<?>> metadata = new HashMap<>();
+
+        for (EntityMetadata<?> entity : ServiceLoader.load(EntityMetadata.class, EntityMetadata.class.getClassLoader())) {
+            metadata.put(entity.entity(), entity);
+        }
+
+        return Map.copyOf(metadata);
+    }
+}
@@ -0,0 +1,61 @@
+package com.devcourse.global.sql;
+
+import com.devcourse.global.utils.UuidConverter;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+public enum IdColumnType {
+    VARCHAR {
+        @Override
+        public Object bind(UUID id) {
+            return id.toString();
+        }
+
+        @Override
+        public UUID read(ResultSet resultSet, int index) throws SQLException {
+            return UUID.fromString(resultSet.getString(index));
+        }
+
+        @Override
+        public Object lowest() {
+            return "";
+        }
+    },
+    BINARY {
+        @Override
+        public Object bind(UUID id) {
+            return UuidConverter.toBytes(id);
+        }
+
+        @Override
+        public UUID read(ResultSet resultSet, int index) throws SQLException {
+            return UuidConverter.toUuid(resultSet.getBytes(index));
+        }
+
+        @Override
+        public Object lowest() {
+            return new byte[0];
+        }
+    };
+
+    public abstract Object bind(UUID id);
+
+    public abstract UUID read(ResultSet resultSet, int index) throws SQLException;
+
+    public abstract Object lowest();
+
+    public Object[] bindAll(List<UUID> ids, Object[] arguments, int offset) {
+        Object last = null;
+
+        for (int i = offset; i < arguments.length; i++) {
+            int index = i - offset;
+            last = index < ids.size() ? bind(ids.get(index)) : last;
+            arguments[i] = last;
+        }
+
+        return arguments;
+    }
+}
@@ -1,7 +1,5 @@
 package com.devcourse.global.sql;
 
-import com.devcourse.global.utils.CaseConverter;
-
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -63,7 +61,7 @@ public class Insert implements Sql {
 
     @Override
     public String getQuery() {
-        String into = CaseConverter.toSnakeCase(this.into);
+        String into = EntityRegistry.tableOf(this.into);
         String values = String.join(", ", this.values);
         String parameters = this.values.stream()
                 .map(value -> "?")
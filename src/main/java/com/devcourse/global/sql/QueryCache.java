@@ -0,0 +1,41 @@
+package com.devcourse.global.sql;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class QueryCache {
+    private static final Map<QueryShape, CompiledQuery> cache = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private QueryCache() {
+    }
+
+    public static CompiledQuery get(QueryShape shape) {
+        CompiledQuery compiled = cache.get(shape);
+
+        if (compiled != null) {
+            hits.increment();
+            QueryTrace.record(compiled);
+            return compiled;
+        }
+
+        misses.increment();
+        compiled = cache.computeIfAbsent(shape, QueryShape::compile);
+        QueryTrace.record(compiled);
+        return compiled;
+    }
+
+    public static long hitCount() {
+        return hits.sum();
+    }
+
+    public static long missCount() {
+        return misses.sum();
+    }
+
+    public static int size() {
+        return cache.size();
+    }
+}
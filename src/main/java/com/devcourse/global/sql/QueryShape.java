@@ -0,0 +1,83 @@
+package com.devcourse.global.sql;
+
+import java.util.List;
+import java.util.Objects;
+
+public final class QueryShape {
+    public enum Kind { SELECT, INSERT, UPDATE, DELETE }
+
+    private final Kind kind;
+    private final Class<?> entity;
+    private final List<String> columns;
+    private final Where where;
+    private final int hash;
+
+    private QueryShape(Kind kind, Class<?> entity, List<String> columns, Where where) {
+        this.kind = kind;
+        this.entity = entity;
+        this.columns = columns;
+        this.where = where;
+        this.hash = Objects.hash(kind, entity, columns, where);
+    }
+
+    public static QueryShape select(Class<?> entity) {
+        return new QueryShape(Kind.SELECT, entity, Select.columnsOf(entity), null);
+    }
+
+    public static QueryShape insert(Class<?> entity, String... columns) {
+        return new QueryShape(Kind.INSERT, entity, List.of(columns), null);
+    }
+
+    public static QueryShape update(Class<?> entity, String... columns) {
+        return new QueryShape(Kind.UPDATE, entity, List.of(columns), null);
+    }
+
+    public static QueryShape delete(Class<?> entity) {
+        return new QueryShape(Kind.DELETE, entity, List.of(), null);
+    }
+
+    public QueryShape where(Where where) {
+        return new QueryShape(kind, entity, columns, where);
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    public Class<?> entity() {
+        return entity;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    CompiledQuery compile() {
+        Sql sql = switch (kind) {
+            case SELECT -> new Select(columns, entity, where);
+            case INSERT -> Insert.builder()
+                    .into(entity)
+                    .values(columns.toArray(String[]::new))
+                    .build();
+            case UPDATE -> new Update(entity, columns, where);
+            case DELETE -> new Delete(entity, where);
+        };
+
+        return new CompiledQuery(sql.getQuery(), columns);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof QueryShape that)) return false;
+        return kind == that.kind
+                && entity == that.entity
+                && columns.equals(that.columns)
+                && Objects.equals(where, that.where);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
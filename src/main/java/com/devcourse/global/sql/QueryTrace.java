@@ -0,0 +1,55 @@
+package com.devcourse.global.sql;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class QueryTrace {
+    private static final String DELIMITER = "; ";
+    private static final String NONE = "";
+    private static final AtomicInteger active = new AtomicInteger();
+    private static final ThreadLocal<QueryTrace> current = new ThreadLocal<>();
+
+    private final QueryTrace parent;
+    private final Set<String> statements = new LinkedHashSet<>();
+
+    private QueryTrace(QueryTrace parent) {
+        this.parent = parent;
+    }
+
+    public static void begin() {
+        active.incrementAndGet();
+        current.set(new QueryTrace(current.get()));
+    }
+
+    public static String end() {
+        QueryTrace trace = current.get();
+
+        if (trace == null) {
+            return NONE;
+        }
+
+        active.decrementAndGet();
+
+        if (trace.parent == null) {
+            current.remove();
+        } else {
+            trace.parent.statements.addAll(trace.statements);
+            current.set(trace.parent);
+        }
+
+        return String.join(DELIMITER, trace.statements);
+    }
+
+    static void record(CompiledQuery query) {
+        if (active.get() == 0) {
+            return;
+        }
+
+        QueryTrace trace = current.get();
+
+        if (trace != null) {
+            trace.statements.add(query.sql());
+        }
+    }
+}
@@ -9,6 +9,21 @@ import java.util.List;
 
 public class Select implements Sql {
     private static final String SELECT_FORMAT = "SELECT %s FROM %s";
+    private static final ClassValue<List<String>> COLUMNS = new ClassValue<>() {
+        @Override
+        protected List<String> computeValue(Class<?> entity) {
+            EntityMetadata<?> metadata = EntityRegistry.find(entity);
+
+            if (metadata != null) {
+                return metadata.columns();
+            }
+
+            return Arrays.stream(entity.getDeclaredFields())
+                    .filter(field -> !field.isAnnotationPresent(Transient.class))
+                    .map(field -> CaseConverter.toSnakeCase(field.getName()))
+                    .toList();
+        }
+    };
 
     private final List<String> fields;
     private final Class<?> from;
@@ -41,10 +56,7 @@ public class Select implements Sql {
         }
 
         public WhereCriteria select(Class<?> entity) {
-            this.fields = Arrays.stream(entity.getDeclaredFields())
-                    .filter(field -> !field.isAnnotationPresent(Transient.class))
-                    .map(field -> CaseConverter.toSnakeCase(field.getName()))
-                    .toList();
+            this.fields = columnsOf(entity);
 
             return new WhereCriteria(fields, entity);
         }
@@ -100,10 +112,14 @@ public class Select implements Sql {
         }
     }
 
+    static List<String> columnsOf(Class<?> entity) {
+        return COLUMNS.get(entity);
+    }
+
     @Override
     public String getQuery() {
         String fields = String.join(", ", this.fields);
-        String table = CaseConverter.toSnakeCase(this.from);
+        String table = EntityRegistry.tableOf(this.from);
         String where = this.where != null ? this.where.getQuery() : Where.EMPTY;
 
         return SELECT_FORMAT.formatted(fields, table) + where;
@@ -1,7 +1,5 @@
 package com.devcourse.global.sql;
 
-import com.devcourse.global.utils.CaseConverter;
-
 import java.util.List;
 
 public class Update implements Sql {
@@ -11,7 +9,7 @@ public class Update implements Sql {
     private final List<String> conditions;
     private final Where where;
 
-    private Update(Class<?> table, List<String> conditions, Where where) {
+    Update(Class<?> table, List<String> conditions, Where where) {
         this.table = table;
         this.conditions = conditions;
         this.where = where;
@@ -90,7 +88,7 @@ public class Update implements Sql {
 
     @Override
     public String getQuery() {
-        String table = CaseConverter.toSnakeCase(this.table);
+        String table = EntityRegistry.tableOf(this.table);
         String conditions = String.join(" = ?, ", this.conditions) + " = ?";
         String where = this.where == null ? "" : this.where.getQuery();
 
@@ -1,26 +1,56 @@
 package com.devcourse.global.sql;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 public class Where implements Sql {
     static final String EMPTY = "";
     private static final int ZERO = 0;
-    private static final String WHERE_FORMAT = " WHERE %s = ?";
-
-    private final String where;
+    private static final int MIN_BUCKET = 1;
+    private static final String EQUAL = "=";
+    private static final String GREATER_THAN = ">";
+    private static final String GREATER_THAN_OR_EQUAL = ">=";
+    private static final String LESS_THAN = "<";
+    private static final String AND = " AND ";
+    private static final String OR = " OR ";
+    private static final String PLACEHOLDER = "?";
+    private static final String PLACEHOLDER_DELIMITER = ", ";
+    private static final String WHERE_FORMAT = " WHERE %s";
+    private static final String CONDITION_FORMAT = "%s %s ?";
+    private static final String BETWEEN_FORMAT = "%s BETWEEN ? AND ?";
+    private static final String IN_FORMAT = "%s IN (%s)";
+    private static final String GROUP_FORMAT = "(%s)";
+    private static final String ORDER_BY_FORMAT = " ORDER BY %s";
+    private static final String EMPTY_IN = "IN needs at least one value.";
+
+    private final List<List<String>> conditions;
+    private final String orderBy;
     private final int limit;
 
-    private Where(String where, int limit) {
-        this.where = where;
+    private Where(List<List<String>> conditions, String orderBy, int limit) {
+        this.conditions = conditions;
+        this.orderBy = orderBy;
         this.limit = limit;
     }
 
     public Where(String where) {
-        this(where, ZERO);
+        this(List.of(List.of(predicate(where, EQUAL))), null, ZERO);
     }
 
     public static WhereCriteria builder() {
         return new WhereCriteria();
     }
 
+    public static int bucket(int count) {
+        if (count < MIN_BUCKET) {
+            throw new IllegalArgumentException(EMPTY_IN);
+        }
+
+        return count == MIN_BUCKET ? MIN_BUCKET : Integer.highestOneBit(count - 1) << 1;
+    }
+
     public static class WhereCriteria {
         private String where;
 
@@ -28,46 +58,175 @@ public class Where implements Sql {
         }
 
         public LimitCriteria condition(String where) {
+            return start(where, predicate(where, EQUAL));
+        }
+
+        public LimitCriteria greaterThan(String where) {
+            return start(where, predicate(where, GREATER_THAN));
+        }
+
+        public LimitCriteria greaterThanOrEqual(String where) {
+            return start(where, predicate(where, GREATER_THAN_OR_EQUAL));
+        }
+
+        public LimitCriteria lessThan(String where) {
+            return start(where, predicate(where, LESS_THAN));
+        }
+
+        public LimitCriteria between(String where) {
+            return start(where, BETWEEN_FORMAT.formatted(where));
+        }
+
+        public LimitCriteria in(String where, int count) {
+            return start(where, inPredicate(where, count));
+        }
+
+        private LimitCriteria start(String where, String predicate) {
             this.where = where;
-            return new LimitCriteria(where);
+            return new LimitCriteria(List.of(List.of(predicate)), null);
         }
     }
 
     public static class LimitCriteria {
-        private final String where;
+        private final List<List<String>> conditions;
+        private final String orderBy;
         private int limit;
 
-        private LimitCriteria(String where) {
-            this.where = where;
+        private LimitCriteria(List<List<String>> conditions, String orderBy) {
+            this.conditions = conditions;
+            this.orderBy = orderBy;
+        }
+
+        public LimitCriteria and(String where) {
+            return conjoin(predicate(where, EQUAL));
+        }
+
+        public LimitCriteria andGreaterThan(String where) {
+            return conjoin(predicate(where, GREATER_THAN));
+        }
+
+        public LimitCriteria andGreaterThanOrEqual(String where) {
+            return conjoin(predicate(where, GREATER_THAN_OR_EQUAL));
+        }
+
+        public LimitCriteria andLessThan(String where) {
+            return conjoin(predicate(where, LESS_THAN));
+        }
+
+        public LimitCriteria andBetween(String where) {
+            return conjoin(BETWEEN_FORMAT.formatted(where));
+        }
+
+        public LimitCriteria andIn(String where, int count) {
+            return conjoin(inPredicate(where, count));
+        }
+
+        public LimitCriteria or(String where) {
+            return disjoin(predicate(where, EQUAL));
+        }
+
+        public LimitCriteria orGreaterThan(String where) {
+            return disjoin(predicate(where, GREATER_THAN));
+        }
+
+        public LimitCriteria orLessThan(String where) {
+            return disjoin(predicate(where, LESS_THAN));
+        }
+
+        public LimitCriteria orBetween(String where) {
+            return disjoin(BETWEEN_FORMAT.formatted(where));
+        }
+
+        public LimitCriteria orIn(String where, int count) {
+            return disjoin(inPredicate(where, count));
+        }
+
+        public LimitCriteria orderBy(String orderBy) {
+            return new LimitCriteria(conditions, orderBy);
         }
 
         public Builder limit(int limit) {
             this.limit = limit;
-            return new Builder(where, limit);
+            return new Builder(conditions, orderBy, limit);
         }
 
         public Where build() {
-            return new Where(where, ZERO);
+            return new Where(conditions, orderBy, ZERO);
+        }
+
+        private LimitCriteria conjoin(String predicate) {
+            return new LimitCriteria(append(conditions, List.of(predicate)), orderBy);
+        }
+
+        private LimitCriteria disjoin(String predicate) {
+            int last = conditions.size() - 1;
+            List<List<String>> disjoined = new ArrayList<>(conditions.subList(0, last));
+            disjoined.add(append(conditions.get(last), predicate));
+            return new LimitCriteria(List.copyOf(disjoined), orderBy);
         }
     }
 
     public static class Builder {
-        private final String where;
+        private final List<List<String>> conditions;
+        private final String orderBy;
         private final int limit;
 
-        private Builder(String where, int limit) {
-            this.where = where;
+        private Builder(List<List<String>> conditions, String orderBy, int limit) {
+            this.conditions = conditions;
+            this.orderBy = orderBy;
             this.limit = limit;
         }
 
         public Where build() {
-            return new Where(where, limit);
+            return new Where(conditions, orderBy, limit);
         }
     }
 
+    private static String predicate(String where, String operator) {
+        return CONDITION_FORMAT.formatted(where, operator);
+    }
+
+    private static String inPredicate(String where, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(EMPTY_IN);
+        }
+
+        String placeholders = String.join(PLACEHOLDER_DELIMITER, Collections.nCopies(count, PLACEHOLDER));
+        return IN_FORMAT.formatted(where, placeholders);
+    }
+
+    private static <T> List<T> append(List<T> elements, T element) {
+        List<T> appended = new ArrayList<>(elements);
+        appended.add(element);
+        return List.copyOf(appended);
+    }
+
+    private static String group(List<String> disjunction) {
+        String joined = String.join(OR, disjunction);
+        return disjunction.size() == 1 ? joined : GROUP_FORMAT.formatted(joined);
+    }
+
     @Override
     public String getQuery() {
+        List<String> groups = conditions.stream()
+                .map(Where::group)
+                .toList();
+        String orderBy = this.orderBy == null ? EMPTY : ORDER_BY_FORMAT.formatted(this.orderBy);
         String limit = this.limit == ZERO ? EMPTY : " LIMIT " + this.limit;
-        return WHERE_FORMAT.formatted(where) + limit;
+        return WHERE_FORMAT.formatted(String.join(AND, groups)) + orderBy + limit;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Where that)) return false;
+        return limit == that.limit
+                && conditions.equals(that.conditions)
+                && Objects.equals(orderBy, that.orderBy);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(conditions, orderBy, limit);
     }
 }
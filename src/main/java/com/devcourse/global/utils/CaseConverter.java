@@ -2,14 +2,18 @@ package com.devcourse.global.utils;
 
 public class CaseConverter {
     private static final String UNDER_BAR = "_";
+    private static final ClassValue<String> TABLE_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> from) {
+            return convertCase(extractCharArray(from)) + "s";
+        }
+    };
 
     private CaseConverter() {
     }
 
     public static String toSnakeCase(Class<?> from) {
-        char[] chars = extractCharArray(from);
-
-        return convertCase(chars) + "s";
+        return TABLE_NAMES.get(from);
     }
 
     public static String toSnakeCase(String input) {
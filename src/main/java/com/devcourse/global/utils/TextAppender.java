@@ -0,0 +1,95 @@
+package com.devcourse.global.utils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class TextAppender {
+    public static final int LINE_CAPACITY = 128;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int NANO_DIGITS = 9;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final int NANOS_PER_MICRO = 1_000;
+    private static final int MAX_PLAIN_YEAR = 9999;
+
+    private TextAppender() {
+    }
+
+    public static StringBuilder appendUuid(StringBuilder builder, UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        appendHex(builder, msb >>> 32, 8).append('-');
+        appendHex(builder, msb >>> 16, 4).append('-');
+        appendHex(builder, msb, 4).append('-');
+        appendHex(builder, lsb >>> 48, 4).append('-');
+        return appendHex(builder, lsb, 12);
+    }
+
+    public static StringBuilder appendDateTime(StringBuilder builder, LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+
+        if (Math.abs(year) < 1000) {
+            if (year < 0) {
+                builder.append('-');
+            }
+
+            appendPadded(builder, Math.abs(year), 4);
+        } else {
+            if (year > MAX_PLAIN_YEAR) {
+                builder.append('+');
+            }
+
+            builder.append(year);
+        }
+
+        builder.append('-');
+        appendPadded(builder, dateTime.getMonthValue(), 2).append('-');
+        appendPadded(builder, dateTime.getDayOfMonth(), 2).append('T');
+        appendPadded(builder, dateTime.getHour(), 2).append(':');
+        appendPadded(builder, dateTime.getMinute(), 2);
+
+        int second = dateTime.getSecond();
+        int nano = dateTime.getNano();
+
+        if (second == 0 && nano == 0) {
+            return builder;
+        }
+
+        builder.append(':');
+        appendPadded(builder, second, 2);
+
+        if (nano == 0) {
+            return builder;
+        }
+
+        builder.append('.');
+
+        if (nano % NANOS_PER_MILLI == 0) {
+            return appendPadded(builder, nano / NANOS_PER_MILLI, 3);
+        }
+
+        if (nano % NANOS_PER_MICRO == 0) {
+            return appendPadded(builder, nano / NANOS_PER_MICRO, 6);
+        }
+
+        return appendPadded(builder, nano, NANO_DIGITS);
+    }
+
+    private static StringBuilder appendHex(StringBuilder builder, long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            builder.append(HEX_DIGITS[(int) (value >>> shift) & 0xF]);
+        }
+
+        return builder;
+    }
+
+    private static StringBuilder appendPadded(StringBuilder builder, int value, int width) {
+        for (int limit = 10, digits = 1; digits < width; limit *= 10, digits++) {
+            if (value < limit) {
+                builder.append('0');
+            }
+        }
+
+        return builder.append(value);
+    }
+}
@@ -0,0 +1,44 @@
+package com.devcourse.global.utils;
+
+import java.util.UUID;
+
+public class UuidConverter {
+    private static final int UUID_BYTES = 16;
+    private static final int LONG_BYTES = 8;
+    private static final String INVALID_LENGTH = "UUID MUST Be 16 Bytes. Length : ";
+
+    private UuidConverter() {
+    }
+
+    public static byte[] toBytes(UUID id) {
+        byte[] bytes = new byte[UUID_BYTES];
+        writeLong(bytes, 0, id.getMostSignificantBits());
+        writeLong(bytes, LONG_BYTES, id.getLeastSignificantBits());
+        return bytes;
+    }
+
+    public static UUID toUuid(byte[] bytes) {
+        if (bytes.length != UUID_BYTES) {
+            throw new IllegalArgumentException(INVALID_LENGTH + bytes.length);
+        }
+
+        return new UUID(readLong(bytes, 0), readLong(bytes, LONG_BYTES));
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = LONG_BYTES - 1; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= Byte.SIZE;
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+
+        for (int i = 0; i < LONG_BYTES; i++) {
+            value = (value << Byte.SIZE) | (bytes[offset + i] & 0xFF);
+        }
+
+        return value;
+    }
+}
@@ -1,9 +1,14 @@
 package com.devcourse.user;
 
+import com.devcourse.global.sql.Entity;
+
 import java.util.UUID;
 
 import static com.devcourse.global.common.Constant.DELIMITER;
+import static com.devcourse.global.utils.TextAppender.LINE_CAPACITY;
+import static com.devcourse.global.utils.TextAppender.appendUuid;
 
+@Entity
 public class User {
     private final UUID id;
     private final String name;
@@ -22,6 +27,10 @@ public class User {
     }
 
     public String toStringResponse() {
-        return id + DELIMITER + name;
+        return appendTo(new StringBuilder(LINE_CAPACITY)).toString();
+    }
+
+    public StringBuilder appendTo(StringBuilder builder) {
+        return appendUuid(builder, id).append(DELIMITER).append(name);
     }
 }
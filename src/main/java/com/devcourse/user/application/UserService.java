@@ -2,32 +2,59 @@ package com.devcourse.user.application;
 
 import com.devcourse.user.User;
 import com.devcourse.user.repository.BlackListRepository;
+import com.devcourse.user.repository.BlackListStats;
+import com.devcourse.user.repository.UserCache;
+import com.devcourse.user.repository.UserCacheStats;
 import com.devcourse.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.devcourse.global.utils.TextAppender.LINE_CAPACITY;
 
 @Service
 public class UserService {
     private final UserRepository userRepository;
     private final BlackListRepository blackListRepository;
+    private final UserCache userCache;
 
-    public UserService(UserRepository userRepository, BlackListRepository blackListRepository) {
+    public UserService(UserRepository userRepository, BlackListRepository blackListRepository, UserCache userCache) {
         this.userRepository = userRepository;
         this.blackListRepository = blackListRepository;
+        this.userCache = userCache;
     }
 
     public void create(String name) {
         userRepository.save(name);
     }
 
-    public List<String> findAll() {
-        return userRepository.findAll().stream()
-                .map(User::toStringResponse)
-                .toList();
+    public void renderAll(Consumer<CharSequence> lineConsumer) {
+        StringBuilder line = new StringBuilder(LINE_CAPACITY);
+
+        try (Stream<User> users = userRepository.streamAll()) {
+            users.forEach(user -> {
+                line.setLength(0);
+                lineConsumer.accept(user.appendTo(line));
+            });
+        }
     }
 
     public List<String> findAllBlack() {
         return blackListRepository.findAllBlack();
     }
+
+    public boolean isBlacklisted(UUID id) {
+        return blackListRepository.isBlacklisted(id);
+    }
+
+    public BlackListStats blackListStats() {
+        return blackListRepository.stats();
+    }
+
+    public UserCacheStats cacheStats() {
+        return userCache.stats();
+    }
 }
@@ -0,0 +1,218 @@
+package com.devcourse.user.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+final class BlackListIndex {
+    private static final Logger logger = LoggerFactory.getLogger(BlackListIndex.class);
+    private static final int MAGIC = 0x424C4F4D;
+    private static final int VERSION = 1;
+    private static final String FILTER_SUFFIX = ".bloom";
+    private static final String IDS_SUFFIX = ".ids";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String REBUILDING = "Persisted blacklist filter unreadable, rebuilding : {}";
+    private static final int FILTER_HEADER_LENGTH = Integer.BYTES * 2 + Long.BYTES + Double.BYTES;
+    private static final String DEFAULT_DELIMITER = ", ";
+    private static final int HEADER_LINES = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final BloomFilter filter;
+    private final SortedIdFile ids;
+    private final double falsePositiveRate;
+
+    private BlackListIndex(BloomFilter filter, SortedIdFile ids, double falsePositiveRate) {
+        this.filter = filter;
+        this.ids = ids;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    static BlackListIndex open(Path csv, double falsePositiveRate) throws IOException {
+        Path filterPath = sibling(csv, FILTER_SUFFIX);
+        Path idsPath = sibling(csv, IDS_SUFFIX);
+        long modifiedAt = Files.getLastModifiedTime(csv).toMillis();
+
+        if (Files.exists(filterPath) && Files.exists(idsPath) && SortedIdFile.isComplete(idsPath)) {
+            Optional<BloomFilter> filter = readFilter(filterPath, modifiedAt, falsePositiveRate);
+
+            if (filter.isPresent()) {
+                return new BlackListIndex(filter.get(), SortedIdFile.open(idsPath), falsePositiveRate);
+            }
+        }
+
+        return build(csv, modifiedAt, falsePositiveRate, filterPath, idsPath);
+    }
+
+    private static Optional<BloomFilter> readFilter(Path filterPath, long modifiedAt, double falsePositiveRate) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filterPath)))) {
+            long filterBytes = Files.size(filterPath) - FILTER_HEADER_LENGTH;
+
+            if (in.readInt() == MAGIC
+                    && in.readInt() == VERSION
+                    && in.readLong() == modifiedAt
+                    && in.readDouble() == falsePositiveRate) {
+                return Optional.of(BloomFilter.readFrom(in, filterBytes));
+            }
+        } catch (IOException e) {
+            logger.warn(REBUILDING, filterPath, e);
+        }
+
+        return Optional.empty();
+    }
+
+    boolean mightContain(UUID id) {
+        return filter.mightContain(id);
+    }
+
+    boolean contains(UUID id) {
+        return ids.contains(id);
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    long filterBytes() {
+        return filter.sizeInBytes();
+    }
+
+    double falsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    private static BlackListIndex build(Path csv, long modifiedAt, double falsePositiveRate, Path filterPath, Path idsPath) throws IOException {
+        long[] msbs = new long[INITIAL_CAPACITY];
+        long[] lsbs = new long[INITIAL_CAPACITY];
+        int size = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(csv, UTF_8)) {
+            String line;
+            int skipped = 0;
+
+            while ((line = reader.readLine()) != null) {
+                if (skipped < HEADER_LINES) {
+                    skipped++;
+                    continue;
+                }
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                if (size == msbs.length) {
+                    msbs = Arrays.copyOf(msbs, size * 2);
+                    lsbs = Arrays.copyOf(lsbs, size * 2);
+                }
+
+                UUID id = UUID.fromString(line.split(DEFAULT_DELIMITER)[0].strip());
+                msbs[size] = id.getMostSignificantBits();
+                lsbs[size] = id.getLeastSignificantBits();
+                size++;
+            }
+        }
+
+        sort(msbs, lsbs, 0, size - 1);
+        size = distinct(msbs, lsbs, size);
+
+        BloomFilter filter = BloomFilter.create(size, falsePositiveRate);
+        for (int i = 0; i < size; i++) {
+            filter.put(msbs[i], lsbs[i]);
+        }
+
+        Path idsTemp = sibling(idsPath, TEMP_SUFFIX);
+        SortedIdFile.write(idsTemp, msbs, lsbs, size);
+        Files.move(idsTemp, idsPath, ATOMIC_MOVE, REPLACE_EXISTING);
+
+        Path filterTemp = sibling(filterPath, TEMP_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filterTemp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(modifiedAt);
+            out.writeDouble(falsePositiveRate);
+            filter.writeTo(out);
+        }
+        Files.move(filterTemp, filterPath, ATOMIC_MOVE, REPLACE_EXISTING);
+
+        return new BlackListIndex(filter, SortedIdFile.open(idsPath), falsePositiveRate);
+    }
+
+    private static int distinct(long[] msbs, long[] lsbs, int size) {
+        int written = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (written == 0 || msbs[i] != msbs[written - 1] || lsbs[i] != lsbs[written - 1]) {
+                msbs[written] = msbs[i];
+                lsbs[written] = lsbs[i];
+                written++;
+            }
+        }
+
+        return written;
+    }
+
+    private static void sort(long[] msbs, long[] lsbs, int low, int high) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            int middle = (low + high) >>> 1;
+            long pivotMsb = msbs[middle];
+            long pivotLsb = lsbs[middle];
+            int left = low;
+            int right = high;
+
+            while (left <= right) {
+                while (SortedIdFile.compare(msbs[left], lsbs[left], pivotMsb, pivotLsb) < 0) {
+                    left++;
+                }
+                while (SortedIdFile.compare(msbs[right], lsbs[right], pivotMsb, pivotLsb) > 0) {
+                    right--;
+                }
+                if (left <= right) {
+                    swap(msbs, lsbs, left++, right--);
+                }
+            }
+
+            if (right - low < high - left) {
+                sort(msbs, lsbs, low, right);
+                low = left;
+            } else {
+                sort(msbs, lsbs, left, high);
+                high = right;
+            }
+        }
+
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && SortedIdFile.compare(msbs[j - 1], lsbs[j - 1], msbs[j], lsbs[j]) > 0; j--) {
+                swap(msbs, lsbs, j - 1, j);
+            }
+        }
+    }
+
+    private static void swap(long[] msbs, long[] lsbs, int i, int j) {
+        long msb = msbs[i];
+        msbs[i] = msbs[j];
+        msbs[j] = msb;
+
+        long lsb = lsbs[i];
+        lsbs[i] = lsbs[j];
+        lsbs[j] = lsb;
+    }
+
+    private static Path sibling(Path path, String suffix) {
+        return path.resolveSibling(path.getFileName() + suffix);
+    }
+}
@@ -0,0 +1,22 @@
+package com.devcourse.user.repository;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.devcourse.BlackListReload")
+@Label("Blacklist Reload")
+@Category({"Voucher Program", "Blacklist"})
+class BlackListReloadEvent extends Event {
+    @Label("Path")
+    String path;
+
+    @Label("Users")
+    int users;
+
+    @Label("Filter Size")
+    @DataAmount
+    long filterBytes;
+}
@@ -1,13 +1,19 @@
 package com.devcourse.user.repository;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
 import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.devcourse.global.common.Constant.DELIMITER;
 import static com.devcourse.global.common.Constant.FILE_READ_FAIL;
@@ -15,16 +21,34 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 @Repository
 public class BlackListRepository {
+    private static final Logger logger = LoggerFactory.getLogger(BlackListRepository.class);
     private static final String DEFAULT_DELIMITER = ", ";
+    private static final String LOADED = "Blacklist loaded: {} users, filter {} bytes";
 
-    private final File blackList;
+    private record Snapshot(FileTime modifiedAt, BlackListIndex index) {
+    }
+
+    private final Path blackList;
+    private final double falsePositiveRate;
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder filterHits = new LongAdder();
+    private final LongAdder confirmed = new LongAdder();
+    private volatile Snapshot snapshot;
+
+    public BlackListRepository(@Value("${path.csv}") String path,
+                               @Value("${blacklist.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.blackList = Path.of(path);
+        this.falsePositiveRate = falsePositiveRate;
 
-    public BlackListRepository(@Value("${path.csv}") String path) {
-        blackList = new File(path);
+        try {
+            snapshot = load();
+        } catch (IOException e) {
+            throw new RuntimeException(FILE_READ_FAIL);
+        }
     }
 
     public List<String> findAllBlack() {
-        try (BufferedReader reader = new BufferedReader(new FileReader(blackList, UTF_8))) {
+        try (BufferedReader reader = Files.newBufferedReader(blackList, UTF_8)) {
             return reader.lines()
                     .map(line -> line.replace(DEFAULT_DELIMITER, DELIMITER))
                     .toList();
@@ -32,4 +56,56 @@ public class BlackListRepository {
             throw new RuntimeException(FILE_READ_FAIL);
         }
     }
+
+    public boolean isBlacklisted(UUID id) {
+        BlackListIndex index = snapshot.index();
+        checks.increment();
+
+        if (!index.mightContain(id)) {
+            return false;
+        }
+
+        filterHits.increment();
+        if (!index.contains(id)) {
+            return false;
+        }
+
+        confirmed.increment();
+        return true;
+    }
+
+    public BlackListStats stats() {
+        BlackListIndex index = snapshot.index();
+        return new BlackListStats(index.size(), index.filterBytes(), index.falsePositiveRate(),
+                checks.sum(), filterHits.sum(), confirmed.sum());
+    }
+
+    @Scheduled(fixedDelayString = "${blacklist.reload-interval-ms:1000}")
+    public void reloadIfModified() {
+        try {
+            if (!Files.getLastModifiedTime(blackList).equals(snapshot.modifiedAt())) {
+                snapshot = load();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error(FILE_READ_FAIL, e);
+        }
+    }
+
+    private Snapshot load() throws IOException {
+        BlackListReloadEvent event = new BlackListReloadEvent();
+        event.begin();
+        FileTime modifiedAt = Files.getLastModifiedTime(blackList);
+        BlackListIndex index = BlackListIndex.open(blackList, falsePositiveRate);
+        logger.info(LOADED, index.size(), index.filterBytes());
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.path = blackList.toString();
+            event.users = index.size();
+            event.filterBytes = index.filterBytes();
+            event.commit();
+        }
+
+        return new Snapshot(modifiedAt, index);
+    }
 }
@@ -0,0 +1,12 @@
+package com.devcourse.user.repository;
+
+public record BlackListStats(int ids, long filterBytes, double falsePositiveRate, long checks, long filterHits, long confirmed) {
+    public double filterHitRate() {
+        return checks == 0 ? 0 : (double) filterHits / checks;
+    }
+
+    public double observedFalsePositiveRate() {
+        long negatives = checks - confirmed;
+        return negatives == 0 ? 0 : (double) (filterHits - confirmed) / negatives;
+    }
+}
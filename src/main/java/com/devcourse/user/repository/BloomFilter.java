@@ -0,0 +1,90 @@
+package com.devcourse.user.repository;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+final class BloomFilter {
+    private static final String INVALID_RATE = "False positive rate must be between 0 and 1 : ";
+    private static final String CORRUPT_FILTER = "Bloom filter is corrupt. Words : ";
+    private static final double LN2 = Math.log(2);
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long[] words, int hashCount) {
+        this.words = words;
+        this.bitCount = (long) words.length * Long.SIZE;
+        this.hashCount = hashCount;
+    }
+
+    static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException(INVALID_RATE + falsePositiveRate);
+        }
+
+        long expected = Math.max(expectedInsertions, 1);
+        long bits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int hashCount = Math.max(1, (int) Math.round((double) bits / expected * LN2));
+        return new BloomFilter(new long[(int) ((bits + Long.SIZE - 1) / Long.SIZE)], hashCount);
+    }
+
+    void put(long mostSignificantBits, long leastSignificantBits) {
+        long first = mix(mostSignificantBits ^ Long.rotateLeft(leastSignificantBits, 32));
+        long second = mix(leastSignificantBits) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(first + i * second, bitCount);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(UUID id) {
+        long first = mix(id.getMostSignificantBits() ^ Long.rotateLeft(id.getLeastSignificantBits(), 32));
+        long second = mix(id.getLeastSignificantBits()) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(first + i * second, bitCount);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    long sizeInBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(hashCount);
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    static BloomFilter readFrom(DataInputStream in, long serializedBytes) throws IOException {
+        int hashCount = in.readInt();
+        int length = in.readInt();
+
+        if (hashCount < 1 || length < 1 || (long) length * Long.BYTES != serializedBytes - Integer.BYTES * 2) {
+            throw new IOException(CORRUPT_FILTER + length);
+        }
+
+        long[] words = new long[length];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.readLong();
+        }
+        return new BloomFilter(words, hashCount);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
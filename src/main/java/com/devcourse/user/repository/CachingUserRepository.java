@@ -0,0 +1,227 @@
+package com.devcourse.user.repository;
+
+import com.devcourse.user.User;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Primary
+@Component
+class CachingUserRepository implements UserRepository, UserCache {
+    private record Entry(User user, long expiresAt) {
+    }
+
+    private final UserRepository delegate;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<UUID, Entry> cache;
+    private final Map<UUID, CompletableFuture<Optional<User>>> loading = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingUserRepository(@Qualifier("jdbcUserRepository") UserRepository delegate,
+                                 @Value("${user.cache.maximum-size:10000}") int maximumSize,
+                                 @Value("${user.cache.ttl-ms:60000}") long ttlMillis) {
+        this(delegate, maximumSize, ttlMillis, System::nanoTime);
+    }
+
+    CachingUserRepository(UserRepository delegate, int maximumSize, long ttlMillis, LongSupplier clock) {
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                if (size() <= CachingUserRepository.this.maximumSize) {
+                    return false;
+                }
+
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public UUID save(String name) {
+        return delegate.save(name);
+    }
+
+    @Override
+    public List<UUID> saveAll(Collection<String> names) {
+        return delegate.saveAll(names);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<User> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        User cached = lookup(id);
+
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        CompletableFuture<Optional<User>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<User>> inFlight = loading.putIfAbsent(id, load);
+
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+
+        try {
+            loads.increment();
+            Optional<User> user = delegate.findById(id);
+            user.ifPresent(found -> putIfLoading(id, load, found));
+
+            load.complete(user);
+            return user;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(id, load);
+        }
+    }
+
+    @Override
+    public List<User> findAllByIds(Collection<UUID> ids) {
+        List<User> found = new ArrayList<>(ids.size());
+        Map<UUID, CompletableFuture<Optional<User>>> owned = new LinkedHashMap<>();
+        List<CompletableFuture<Optional<User>>> waiting = new ArrayList<>();
+
+        for (UUID id : new LinkedHashSet<>(ids)) {
+            User cached = lookup(id);
+
+            if (cached != null) {
+                hits.increment();
+                found.add(cached);
+                continue;
+            }
+
+            misses.increment();
+            CompletableFuture<Optional<User>> load = new CompletableFuture<>();
+            CompletableFuture<Optional<User>> inFlight = loading.putIfAbsent(id, load);
+
+            if (inFlight == null) {
+                owned.put(id, load);
+            } else {
+                waiting.add(inFlight);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            loadAll(owned, found);
+        }
+
+        for (CompletableFuture<Optional<User>> inFlight : waiting) {
+            inFlight.join().ifPresent(found::add);
+        }
+
+        return found;
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        delegate.deleteById(id);
+        invalidate(id);
+    }
+
+    @Override
+    public void update(UUID id, String name) {
+        delegate.update(id, name);
+        invalidate(id);
+    }
+
+    @Override
+    public UserCacheStats stats() {
+        synchronized (cache) {
+            return new UserCacheStats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(), cache.size());
+        }
+    }
+
+    private void loadAll(Map<UUID, CompletableFuture<Optional<User>>> owned, List<User> found) {
+        try {
+            loads.increment();
+            Map<UUID, User> loaded = delegate.findAllByIds(owned.keySet()).stream()
+                    .collect(Collectors.toMap(User::id, Function.identity()));
+
+            owned.forEach((id, load) -> {
+                Optional<User> user = Optional.ofNullable(loaded.get(id));
+                user.ifPresent(loadedUser -> putIfLoading(id, load, loadedUser));
+                user.ifPresent(found::add);
+                load.complete(user);
+            });
+        } catch (RuntimeException e) {
+            owned.values().forEach(load -> load.completeExceptionally(e));
+            throw e;
+        } finally {
+            owned.forEach(loading::remove);
+        }
+    }
+
+    private User lookup(UUID id) {
+        synchronized (cache) {
+            Entry entry = cache.get(id);
+
+            if (entry == null) {
+                return null;
+            }
+
+            if (clock.getAsLong() - entry.expiresAt() >= 0) {
+                cache.remove(id);
+                evictions.increment();
+                return null;
+            }
+
+            return entry.user();
+        }
+    }
+
+    private void putIfLoading(UUID id, CompletableFuture<Optional<User>> load, User user) {
+        synchronized (cache) {
+            if (loading.remove(id, load)) {
+                cache.put(id, new Entry(user, clock.getAsLong() + ttlNanos));
+            }
+        }
+    }
+
+    private void invalidate(UUID id) {
+        synchronized (cache) {
+            loading.remove(id);
+            cache.remove(id);
+        }
+    }
+}
@@ -1,93 +1,128 @@
 package com.devcourse.user.repository;
 
-import com.devcourse.global.sql.Delete;
-import com.devcourse.global.sql.Insert;
-import com.devcourse.global.sql.Select;
-import com.devcourse.global.sql.Update;
+import com.devcourse.global.sql.EntityMetadata;
+import com.devcourse.global.sql.IdColumnType;
+import com.devcourse.global.sql.QueryCache;
+import com.devcourse.global.sql.QueryShape;
 import com.devcourse.global.sql.Where;
 import com.devcourse.user.User;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Component
 class JdbcUserRepository implements UserRepository {
-    private final RowMapper<User> userMapper = (resultSet, resultNumber) -> {
-        UUID id = UUID.fromString(resultSet.getString("id"));
-        String name = resultSet.getString("name");
-        return new User(id, name);
-    };
+    private static final Where BY_ID = Where.builder()
+            .condition("id")
+            .build();
+    private static final QueryShape INSERT = QueryShape.insert(User.class, "id", "name");
+    private static final QueryShape SELECT_ALL = QueryShape.select(User.class);
+    private static final QueryShape SELECT_BY_ID = QueryShape.select(User.class).where(BY_ID);
+    private static final QueryShape DELETE_BY_ID = QueryShape.delete(User.class).where(BY_ID);
+    private static final QueryShape UPDATE_NAME = QueryShape.update(User.class, "name").where(BY_ID);
 
     private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int fetchSize;
+    private final IdColumnType idType;
+    private final RowMapper<User> userMapper;
 
-    public JdbcUserRepository(JdbcTemplate jdbcTemplate) {
+    public JdbcUserRepository(JdbcTemplate jdbcTemplate,
+                              @Value("${jdbc.batch-size:1000}") int batchSize,
+                              @Value("${jdbc.fetch-size:500}") int fetchSize,
+                              @Value("${jdbc.id-type:VARCHAR}") IdColumnType idType) {
         this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
+        this.idType = idType;
+        this.userMapper = EntityMetadata.of(User.class).rowMapper(idType);
     }
 
     @Override
     public UUID save(String name) {
         UUID id = UUID.randomUUID();
-        Insert insert = Insert.builder()
-                .into(User.class)
-                .values("id", "name")
-                .build();
-
-        jdbcTemplate.update(insert.getQuery(), id.toString(), name);
+        jdbcTemplate.update(QueryCache.get(INSERT).sql(), idType.bind(id), name);
         return id;
     }
 
+    @Override
+    public List<UUID> saveAll(Collection<String> names) {
+        List<User> users = names.stream()
+                .map(name -> new User(UUID.randomUUID(), name))
+                .toList();
+
+        jdbcTemplate.batchUpdate(QueryCache.get(INSERT).sql(), users, batchSize, (statement, user) -> {
+            statement.setObject(1, idType.bind(user.id()));
+            statement.setString(2, user.name());
+        });
+
+        return users.stream()
+                .map(User::id)
+                .toList();
+    }
+
     @Override
     public List<User> findAll() {
-        Select select = Select.builder()
-                .select(User.class)
-                .build();
+        return jdbcTemplate.query(QueryCache.get(SELECT_ALL).sql(), userMapper);
+    }
 
-        return jdbcTemplate.query(select.getQuery(), userMapper);
+    @Override
+    public Stream<User> streamAll() {
+        String sql = QueryCache.get(SELECT_ALL).sql();
+
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, userMapper);
     }
 
     @Override
     public Optional<User> findById(UUID id) {
-        Select select = Select.builder()
-                .select(User.class)
-                .where(
-                        Where.builder()
-                                .condition("id")
-                                .build()
-                ).build();
-
-        return jdbcTemplate.query(select.getQuery(), userMapper, id.toString())
+        return jdbcTemplate.query(QueryCache.get(SELECT_BY_ID).sql(), userMapper, idType.bind(id))
                 .stream()
                 .findFirst();
     }
 
+    @Override
+    public List<User> findAllByIds(Collection<UUID> ids) {
+        List<UUID> distinct = ids.stream()
+                .distinct()
+                .toList();
+        List<User> found = new ArrayList<>(distinct.size());
+
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            List<UUID> chunk = distinct.subList(from, Math.min(from + batchSize, distinct.size()));
+            int bucket = Where.bucket(chunk.size());
+            QueryShape select = QueryShape.select(User.class).where(
+                    Where.builder()
+                            .in("id", bucket)
+                            .build()
+            );
+
+            Object[] arguments = idType.bindAll(chunk, new Object[bucket], 0);
+            found.addAll(jdbcTemplate.query(QueryCache.get(select).sql(), userMapper, arguments));
+        }
+
+        return found;
+    }
+
     @Override
     public void deleteById(UUID id) {
-        Delete delete = Delete.builder()
-                .from(User.class)
-                .where(
-                        Where.builder()
-                                .condition("id")
-                                .build()
-                ).build();
-
-        jdbcTemplate.update(delete.getQuery(), id.toString());
+        jdbcTemplate.update(QueryCache.get(DELETE_BY_ID).sql(), idType.bind(id));
     }
 
     @Override
     public void update(UUID id, String name) {
-        Update update = Update.builder()
-                .table(User.class)
-                .values("name")
-                .where(
-                        Where.builder()
-                                .condition("id")
-                                .build()
-                ).build();
-
-        jdbcTemplate.update(update.getQuery(), name, id.toString());
+        jdbcTemplate.update(QueryCache.get(UPDATE_NAME).sql(), name, idType.bind(id));
     }
 }
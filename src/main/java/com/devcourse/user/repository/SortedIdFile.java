@@ -0,0 +1,76 @@
+package com.devcourse.user.repository;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+final class SortedIdFile {
+    private static final int ID_LENGTH = Long.BYTES * 2;
+
+    private final MappedByteBuffer ids;
+    private final int size;
+
+    private SortedIdFile(MappedByteBuffer ids) {
+        this.ids = ids;
+        this.size = ids.capacity() / ID_LENGTH;
+    }
+
+    static void write(Path path, long[] mostSignificantBits, long[] leastSignificantBits, int size) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            for (int i = 0; i < size; i++) {
+                out.writeLong(mostSignificantBits[i]);
+                out.writeLong(leastSignificantBits[i]);
+            }
+        }
+    }
+
+    static boolean isComplete(Path path) throws IOException {
+        return Files.size(path) % ID_LENGTH == 0;
+    }
+
+    static SortedIdFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            return new SortedIdFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    boolean contains(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int low = 0;
+        int high = size - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int compared = compare(ids.getLong(middle * ID_LENGTH), ids.getLong(middle * ID_LENGTH + Long.BYTES), msb, lsb);
+
+            if (compared == 0) {
+                return true;
+            }
+
+            if (compared < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    static int compare(long msb, long lsb, long otherMsb, long otherLsb) {
+        int compared = Long.compare(msb, otherMsb);
+        return compared != 0 ? compared : Long.compare(lsb, otherLsb);
+    }
+}
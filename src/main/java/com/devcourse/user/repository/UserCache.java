@@ -0,0 +1,5 @@
+package com.devcourse.user.repository;
+
+public interface UserCache {
+    UserCacheStats stats();
+}
@@ -0,0 +1,8 @@
+package com.devcourse.user.repository;
+
+public record UserCacheStats(long hits, long misses, long loads, long evictions, int size) {
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
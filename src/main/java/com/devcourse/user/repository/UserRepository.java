@@ -3,18 +3,26 @@ package com.devcourse.user.repository;
 import com.devcourse.user.User;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository {
     UUID save(String name);
 
+    List<UUID> saveAll(Collection<String> names);
+
     List<User> findAll();
 
+    Stream<User> streamAll();
+
     Optional<User> findById(UUID id);
 
+    List<User> findAllByIds(Collection<UUID> ids);
+
     void deleteById(UUID id);
 
     void update(UUID id, String name);
@@ -0,0 +1,21 @@
+package com.devcourse.voucher.application;
+
+import java.util.UUID;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+record Expiration(UUID id, long expireAtMillis) implements Delayed {
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(expireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other instanceof Expiration expiration) {
+            return Long.compare(expireAtMillis, expiration.expireAtMillis);
+        }
+
+        return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+    }
+}
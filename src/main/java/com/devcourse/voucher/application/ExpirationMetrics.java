@@ -0,0 +1,4 @@
+package com.devcourse.voucher.application;
+
+public record ExpirationMetrics(int backlog, long lagMillis, long expired) {
+}
@@ -0,0 +1,141 @@
+package com.devcourse.voucher.application;
+
+import com.devcourse.voucher.domain.Voucher;
+import com.devcourse.voucher.domain.repository.VoucherRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class VoucherExpirationScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(VoucherExpirationScheduler.class);
+    private static final String EXPIRED = "Expired {} vouchers, lag {} ms, backlog {}";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final VoucherRepository voucherRepository;
+    private final int batchSize;
+    private final Duration lookahead;
+    private final DelayQueue<Expiration> queue = new DelayQueue<>();
+    private final LongAdder expired = new LongAdder();
+    private volatile long lagMillis;
+    private volatile LocalDateTime horizon = EPOCH;
+
+    public VoucherExpirationScheduler(VoucherRepository voucherRepository,
+                                      @Value("${voucher.expiration.batch-size:1000}") int batchSize,
+                                      @Value("${voucher.expiration.lookahead-ms:600000}") long lookaheadMillis) {
+        this.voucherRepository = voucherRepository;
+        this.batchSize = batchSize;
+        this.lookahead = Duration.ofMillis(lookaheadMillis);
+    }
+
+    public void schedule(Voucher voucher) {
+        if (voucher.isIssued() && voucher.expireAt().isBefore(horizon)) {
+            queue.add(expirationOf(voucher));
+        }
+    }
+
+    public void scheduleAll(Collection<Voucher> vouchers) {
+        vouchers.forEach(this::schedule);
+    }
+
+    @Scheduled(fixedDelayString = "${voucher.expiration.interval-ms:1000}")
+    public void expireDue() {
+        refill(LocalDateTime.now());
+
+        List<Expiration> due = new ArrayList<>(batchSize);
+        if (queue.drainTo(due, batchSize) == 0) {
+            lagMillis = 0;
+            return;
+        }
+
+        do {
+            expire(due);
+            due.clear();
+        } while (queue.drainTo(due, batchSize) > 0);
+    }
+
+    public ExpirationMetrics metrics() {
+        return new ExpirationMetrics(queue.size(), lagMillis, expired.sum());
+    }
+
+    private void refill(LocalDateTime now) {
+        LocalDateTime until = now.plus(lookahead);
+        LocalDateTime from;
+
+        // the horizon is claimed before the scan so that vouchers created meanwhile are scheduled by the caller;
+        // one found by both ends up queued twice, and its second expiration updates nothing.
+        synchronized (this) {
+            if (horizon.isAfter(now.plus(lookahead.dividedBy(2)))) {
+                return;
+            }
+
+            from = horizon;
+            horizon = until;
+        }
+
+        if (from.equals(EPOCH)) {
+            refillBacklog(now, until);
+            return;
+        }
+
+        for (Voucher.Type type : Voucher.Type.values()) {
+            voucherRepository.findAllBy(Voucher.Status.ISSUED, type, from, until).stream()
+                    .map(VoucherExpirationScheduler::expirationOf)
+                    .forEach(queue::add);
+        }
+    }
+
+    private void refillBacklog(LocalDateTime now, LocalDateTime until) {
+        List<Voucher> page = voucherRepository.findAllAfter(null, batchSize);
+
+        while (!page.isEmpty()) {
+            List<Expiration> overdue = new ArrayList<>(page.size());
+            for (Voucher voucher : page) {
+                if (!voucher.isIssued() || !voucher.expireAt().isBefore(until)) {
+                    continue;
+                }
+
+                Expiration expiration = expirationOf(voucher);
+                if (voucher.expireAt().isAfter(now)) {
+                    queue.add(expiration);
+                } else {
+                    overdue.add(expiration);
+                }
+            }
+
+            if (!overdue.isEmpty()) {
+                expire(overdue);
+            }
+
+            if (page.size() < batchSize) {
+                return;
+            }
+
+            page = voucherRepository.findAllAfter(page.get(page.size() - 1).id(), batchSize);
+        }
+    }
+
+    private void expire(List<Expiration> due) {
+        long oldest = due.stream().mapToLong(Expiration::expireAtMillis).min().orElseThrow();
+        lagMillis = System.currentTimeMillis() - oldest;
+        int count = voucherRepository.expireAll(due.stream().map(Expiration::id).toList());
+        expired.add(count);
+        logger.debug(EXPIRED, count, lagMillis, queue.size());
+    }
+
+    private static Expiration expirationOf(Voucher voucher) {
+        long expireAtMillis = voucher.expireAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new Expiration(voucher.id(), expireAtMillis);
+    }
+}
@@ -1,28 +1,93 @@
 package com.devcourse.voucher.application;
 
+import com.devcourse.global.dto.CreateVoucherRequest;
 import com.devcourse.voucher.domain.Voucher;
 import com.devcourse.voucher.domain.repository.VoucherRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static com.devcourse.global.utils.TextAppender.LINE_CAPACITY;
 
 @Service
 public class VoucherService {
+    private static final String CREATE = "create";
+    private static final String CREATE_ALL = "createAll";
+    private static final String RENDER_ALL_BY_PAGE = "renderAllByPage";
+
     private final VoucherRepository voucherRepository;
+    private final VoucherExpirationScheduler expirationScheduler;
 
-    public VoucherService(VoucherRepository voucherRepository) {
+    public VoucherService(VoucherRepository voucherRepository, VoucherExpirationScheduler expirationScheduler) {
         this.voucherRepository = voucherRepository;
+        this.expirationScheduler = expirationScheduler;
     }
 
     public void create(int discount, LocalDateTime expiredAt, Voucher.Type type) {
-        Voucher voucher = new Voucher(discount, expiredAt, type);
-        voucherRepository.save(voucher);
+        VoucherServiceEvent event = new VoucherServiceEvent();
+        event.begin();
+        int vouchers = 0;
+
+        try {
+            Voucher voucher = new Voucher(discount, expiredAt, type);
+            voucherRepository.save(voucher);
+            expirationScheduler.schedule(voucher);
+            vouchers = 1;
+        } finally {
+            event.commit(CREATE, vouchers);
+        }
     }
 
-    public List<String> findAll() {
-        return voucherRepository.findAll().stream()
-                .map(Voucher::toText)
-                .toList();
+    public void createAll(List<CreateVoucherRequest> requests) {
+        VoucherServiceEvent event = new VoucherServiceEvent();
+        event.begin();
+        int created = 0;
+
+        try {
+            List<Voucher> vouchers = requests.stream()
+                    .map(request -> new Voucher(request.discount(), request.expiredAt(), request.type()))
+                    .toList();
+            voucherRepository.saveAll(vouchers);
+            expirationScheduler.scheduleAll(vouchers);
+            created = vouchers.size();
+        } finally {
+            event.commit(CREATE_ALL, created);
+        }
+    }
+
+    public boolean redeem(UUID id) {
+        return voucherRepository.redeem(id);
+    }
+
+    public ExpirationMetrics expirationMetrics() {
+        return expirationScheduler.metrics();
+    }
+
+    public void renderAllByPage(int pageSize, Consumer<CharSequence> lineConsumer) {
+        VoucherServiceEvent event = new VoucherServiceEvent();
+        event.begin();
+        int vouchers = 0;
+        StringBuilder line = new StringBuilder(LINE_CAPACITY);
+        UUID lastId = null;
+        List<Voucher> page;
+
+        try {
+            do {
+                page = voucherRepository.findAllAfter(lastId, pageSize);
+
+                for (Voucher voucher : page) {
+                    line.setLength(0);
+                    lineConsumer.accept(voucher.appendTo(line));
+                    vouchers++;
+                }
+
+                lastId = page.isEmpty() ? null : page.get(page.size() - 1).id();
+            } while (page.size() == pageSize);
+        } finally {
+            event.commit(RENDER_ALL_BY_PAGE, vouchers);
+        }
     }
 }
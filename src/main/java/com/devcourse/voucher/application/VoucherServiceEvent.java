@@ -0,0 +1,27 @@
+package com.devcourse.voucher.application;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.devcourse.VoucherService")
+@Label("Voucher Service Call")
+@Category({"Voucher Program", "Service"})
+class VoucherServiceEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Vouchers")
+    int vouchers;
+
+    void commit(String operation, int vouchers) {
+        end();
+
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.vouchers = vouchers;
+            commit();
+        }
+    }
+}
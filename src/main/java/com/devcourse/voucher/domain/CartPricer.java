@@ -0,0 +1,66 @@
+package com.devcourse.voucher.domain;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class CartPricer {
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final String SHORT_RESULTS = "Results array is shorter than amounts : ";
+
+    private CartPricer() { }
+
+    public static void price(Voucher voucher, long[] amounts, long[] results) {
+        if (amounts.length >= PARALLEL_THRESHOLD) {
+            priceParallel(voucher, amounts, results);
+            return;
+        }
+
+        priceSequential(voucher, amounts, results);
+    }
+
+    public static void priceSequential(Voucher voucher, long[] amounts, long[] results) {
+        validate(amounts, results);
+        voucher.policy().discountAll(amounts, voucher.discount(), results, 0, amounts.length);
+    }
+
+    public static void priceParallel(Voucher voucher, long[] amounts, long[] results) {
+        validate(amounts, results);
+        ForkJoinPool.commonPool().invoke(new PriceTask(voucher.policy(), voucher.discount(), amounts, results, 0, amounts.length));
+    }
+
+    private static void validate(long[] amounts, long[] results) {
+        if (results.length < amounts.length) {
+            throw new IllegalArgumentException(SHORT_RESULTS + results.length + " < " + amounts.length);
+        }
+    }
+
+    private static class PriceTask extends RecursiveAction {
+        private final DiscountPolicy policy;
+        private final int discount;
+        private final long[] amounts;
+        private final long[] results;
+        private final int from;
+        private final int to;
+
+        private PriceTask(DiscountPolicy policy, int discount, long[] amounts, long[] results, int from, int to) {
+            this.policy = policy;
+            this.discount = discount;
+            this.amounts = amounts;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                policy.discountAll(amounts, discount, results, from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new PriceTask(policy, discount, amounts, results, from, middle),
+                    new PriceTask(policy, discount, amounts, results, middle, to));
+        }
+    }
+}
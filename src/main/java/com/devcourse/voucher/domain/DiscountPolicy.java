@@ -1,7 +1,24 @@
 package com.devcourse.voucher.domain;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 public interface DiscountPolicy {
-    BigDecimal discount(long target, int discount);
+    RoundingMode DEFAULT_ROUNDING = RoundingMode.HALF_UP;
+
+    long discountMinorUnits(long target, int discount, RoundingMode roundingMode);
+
+    default long discountMinorUnits(long target, int discount) {
+        return discountMinorUnits(target, discount, DEFAULT_ROUNDING);
+    }
+
+    default void discountAll(long[] targets, int discount, long[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = discountMinorUnits(targets[i], discount);
+        }
+    }
+
+    default BigDecimal discount(long target, int discount) {
+        return BigDecimal.valueOf(discountMinorUnits(target, discount));
+    }
 }
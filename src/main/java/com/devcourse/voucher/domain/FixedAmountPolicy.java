@@ -1,6 +1,6 @@
 package com.devcourse.voucher.domain;
 
-import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 class FixedAmountPolicy implements DiscountPolicy {
     private static final int ZERO = 0;
@@ -8,8 +8,15 @@ class FixedAmountPolicy implements DiscountPolicy {
     FixedAmountPolicy() { }
 
     @Override
-    public BigDecimal discount(long target, int discount) {
+    public long discountMinorUnits(long target, int discount, RoundingMode roundingMode) {
         long result = target - discount;
-        return BigDecimal.valueOf(result < ZERO ? ZERO : result);
+        return result < ZERO ? ZERO : result;
+    }
+
+    @Override
+    public void discountAll(long[] targets, int discount, long[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = Math.max(targets[i] - discount, ZERO);
+        }
     }
 }
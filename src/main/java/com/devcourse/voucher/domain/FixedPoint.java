@@ -0,0 +1,35 @@
+package com.devcourse.voucher.domain;
+
+import java.math.RoundingMode;
+
+final class FixedPoint {
+    private static final String ROUNDING_NECESSARY = "Rounding necessary : ";
+
+    private FixedPoint() { }
+
+    static long divide(long numerator, long divisor, RoundingMode roundingMode) {
+        long quotient = numerator / divisor;
+        long remainder = numerator % divisor;
+
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        int sign = (numerator < 0) == (divisor < 0) ? 1 : -1;
+        long twiceRemainder = Math.abs(remainder) * 2;
+        long absDivisor = Math.abs(divisor);
+
+        boolean awayFromZero = switch (roundingMode) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> sign > 0;
+            case FLOOR -> sign < 0;
+            case HALF_UP -> twiceRemainder >= absDivisor;
+            case HALF_DOWN -> twiceRemainder > absDivisor;
+            case HALF_EVEN -> twiceRemainder > absDivisor || (twiceRemainder == absDivisor && (quotient & 1) != 0);
+            case UNNECESSARY -> throw new ArithmeticException(ROUNDING_NECESSARY + numerator + " / " + divisor);
+        };
+
+        return awayFromZero ? quotient + sign : quotient;
+    }
+}
@@ -1,15 +1,35 @@
 package com.devcourse.voucher.domain;
 
-import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 class PercentDiscountPolicy implements DiscountPolicy {
     private static final int MAX_RATE = 100;
+    private static final int HALF = MAX_RATE / 2;
 
     PercentDiscountPolicy() { }
 
     @Override
-    public BigDecimal discount(long target, int discount) {
-        double result = target * ((double) (MAX_RATE - discount) / MAX_RATE);
-        return BigDecimal.valueOf(result);
+    public long discountMinorUnits(long target, int discount, RoundingMode roundingMode) {
+        long numerator = Math.multiplyExact(target, MAX_RATE - discount);
+        return FixedPoint.divide(numerator, MAX_RATE, roundingMode);
+    }
+
+    @Override
+    public void discountAll(long[] targets, int discount, long[] results, int from, int to) {
+        long keep = MAX_RATE - discount;
+        long exactLimit = (Long.MAX_VALUE - HALF) / Math.max(Math.abs(keep), 1);
+
+        for (int i = from; i < to; i++) {
+            long target = targets[i];
+
+            if (target > exactLimit || target < -exactLimit) {
+                results[i] = discountMinorUnits(target, discount, DEFAULT_ROUNDING);
+                continue;
+            }
+
+            long numerator = target * keep;
+            long sign = (numerator >> 63) | 1;
+            results[i] = (numerator + HALF * sign) / MAX_RATE;
+        }
     }
 }
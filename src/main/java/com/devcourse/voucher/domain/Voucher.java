@@ -1,14 +1,20 @@
 package com.devcourse.voucher.domain;
 
+import com.devcourse.global.sql.Entity;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static com.devcourse.global.common.Constant.DELIMITER;
+import static com.devcourse.global.utils.TextAppender.LINE_CAPACITY;
+import static com.devcourse.global.utils.TextAppender.appendDateTime;
+import static com.devcourse.global.utils.TextAppender.appendUuid;
 import static com.devcourse.voucher.domain.Voucher.Status.ISSUED;
 import static com.devcourse.voucher.domain.Voucher.Status.USED;
 
+@Entity
 public class Voucher {
-    public enum Status { USED, ISSUED }
+    public enum Status { USED, ISSUED, EXPIRED }
     public enum Type {
         FIXED, PERCENT;
 
@@ -24,7 +30,7 @@ public class Voucher {
     private final int discount;
     private final LocalDateTime expiredAt;
     private final Type type;
-    private Status status;
+    private final Status status;
 
     public Voucher(UUID id, int discount, LocalDateTime expiredAt, Type type, Status status) {
         this.id = id;
@@ -44,10 +50,18 @@ public class Voucher {
         this.status = ISSUED;
     }
 
+    public Voucher withStatus(Status status) {
+        return new Voucher(id, discount, expiredAt, type, status);
+    }
+
     public boolean isUsed() {
         return this.status == USED;
     }
 
+    public boolean isIssued() {
+        return this.status == ISSUED;
+    }
+
     public UUID id() {
         return id;
     }
@@ -73,11 +87,15 @@ public class Voucher {
     }
 
     public String toText() {
-        return id + DELIMITER +
-                discount + DELIMITER +
-                type + DELIMITER +
-                expiredAt + DELIMITER +
-                status;
+        return appendTo(new StringBuilder(LINE_CAPACITY)).toString();
+    }
+
+    public StringBuilder appendTo(StringBuilder builder) {
+        appendUuid(builder, id).append(DELIMITER)
+                .append(discount).append(DELIMITER)
+                .append(type.name()).append(DELIMITER);
+        return appendDateTime(builder, expiredAt).append(DELIMITER)
+                .append(status.name());
     }
 
     private DiscountPolicy createPolicy(Type type) {
@@ -2,29 +2,87 @@ package com.devcourse.voucher.domain.repository;
 
 import com.devcourse.voucher.domain.Voucher;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 class AbstractVoucherRepository implements VoucherRepository {
+    static final Comparator<Voucher> EXPIRY_ORDER = Comparator.comparing(Voucher::expireAt);
+
     @Override
     public Voucher save(Voucher voucher) {
         return null;
     }
 
+    @Override
+    public void saveAll(Collection<Voucher> vouchers) { }
+
     @Override
     public List<Voucher> findAll() {
         return null;
     }
 
+    @Override
+    public Stream<Voucher> streamAll() {
+        return findAll().stream();
+    }
+
+    @Override
+    public List<Voucher> findAllAfter(UUID lastId, int size) {
+        return List.of();
+    }
+
+    @Override
+    public List<Voucher> findAllBy(Voucher.Status status, Voucher.Type type, LocalDateTime from, LocalDateTime to) {
+        return findAll().stream()
+                .filter(voucher -> matches(voucher, status, type, from, to))
+                .sorted(EXPIRY_ORDER)
+                .toList();
+    }
+
     @Override
     public Optional<Voucher> findById(UUID id) {
         return Optional.empty();
     }
 
+    @Override
+    public List<Voucher> findAllByIds(Collection<UUID> ids) {
+        return ids.stream()
+                .distinct()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
     @Override
     public void deleteById(UUID id) { }
 
     @Override
     public void updateStatus(UUID id, String status) { }
+
+    @Override
+    public int expireAll(Collection<UUID> ids) {
+        return 0;
+    }
+
+    @Override
+    public boolean redeem(UUID id) {
+        return false;
+    }
+
+    static NavigableSet<UUID> idsAfter(NavigableSet<UUID> ids, UUID lastId) {
+        return lastId == null ? ids : ids.tailSet(lastId, false);
+    }
+
+    static boolean matches(Voucher voucher, Voucher.Status status, Voucher.Type type, LocalDateTime from, LocalDateTime to) {
+        return voucher.status() == status
+                && voucher.type() == type
+                && !voucher.expireAt().isBefore(from)
+                && voucher.expireAt().isBefore(to);
+    }
 }
@@ -0,0 +1,229 @@
+package com.devcourse.voucher.domain.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+class AppendLog implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(AppendLog.class);
+    private static final String WRITER_NAME = "voucher-append-log";
+    private static final String LOG_CLOSED = "Append Log Already Closed.";
+    private static final String WRITE_FAIL = "Append Log Write Failed.";
+    private static final String READ_FAIL = "Append Log Read Failed. Position : ";
+    private static final String EMPTY_RECORD = "Append Log Record Is Empty.";
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private record Append(ByteBuffer record, CompletableFuture<Long> written) { }
+
+    private record Pending(CompletableFuture<Long> written, long offset) { }
+
+    private final FileChannel channel;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final BlockingQueue<Append> queue = new LinkedBlockingQueue<>();
+    private final List<Pending> unsynced = new ArrayList<>();
+    private final Thread writer;
+    private final Object lifecycle = new Object();
+    private volatile boolean running = true;
+    private volatile long end;
+    private long lastSync = System.nanoTime();
+
+    AppendLog(Path path, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis) throws IOException {
+        this.channel = FileChannel.open(path, CREATE, READ, WRITE);
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+        this.end = channel.size();
+        this.writer = new Thread(this::writeLoop, WRITER_NAME);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    long append(ByteBuffer record) {
+        if (!record.hasRemaining()) {
+            throw new IllegalArgumentException(EMPTY_RECORD);
+        }
+
+        CompletableFuture<Long> written = new CompletableFuture<>();
+
+        synchronized (lifecycle) {
+            if (!running) {
+                throw new IllegalStateException(LOG_CLOSED);
+            }
+
+            queue.add(new Append(record, written));
+        }
+
+        try {
+            return written.join();
+        } catch (CompletionException e) {
+            throw new UncheckedIOException(WRITE_FAIL, (IOException) e.getCause());
+        }
+    }
+
+    long size() {
+        return end;
+    }
+
+    ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException(READ_FAIL + position);
+            }
+        }
+
+        return buffer.flip();
+    }
+
+    void truncate(long size) throws IOException {
+        if (size < end) {
+            channel.truncate(size);
+            channel.force(true);
+            end = size;
+        }
+    }
+
+    MappedByteBuffer map() throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lifecycle) {
+            running = false;
+        }
+
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        IOException closed = new IOException(LOG_CLOSED);
+        queue.forEach(leftover -> leftover.written().completeExceptionally(closed));
+        queue.clear();
+        channel.close();
+    }
+
+    private void writeLoop() {
+        List<Append> group = new ArrayList<>();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Append first = queue.poll(pollTimeoutNanos(), TimeUnit.NANOSECONDS);
+
+                if (first != null) {
+                    group.add(first);
+                    queue.drainTo(group);
+                    write(group);
+                    group.clear();
+                }
+
+                syncIfDue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        sync();
+    }
+
+    private void write(List<Append> group) {
+        ByteBuffer[] records = new ByteBuffer[group.size()];
+        List<Pending> written = new ArrayList<>(group.size());
+        long position = end;
+
+        for (int i = 0; i < records.length; i++) {
+            records[i] = group.get(i).record();
+            written.add(new Pending(group.get(i).written(), position));
+            position += records[i].remaining();
+        }
+
+        try {
+            channel.position(end);
+            long remaining = position - end;
+            while (remaining > 0) {
+                remaining -= channel.write(records);
+            }
+            end = position;
+        } catch (IOException e) {
+            discardPartialWrite();
+            fail(written, e);
+            return;
+        }
+
+        unsynced.addAll(written);
+
+        if (fsyncPolicy == FsyncPolicy.NEVER) {
+            acknowledge();
+        }
+    }
+
+    private void syncIfDue() {
+        if (fsyncPolicy == FsyncPolicy.ALWAYS
+                || fsyncPolicy == FsyncPolicy.INTERVAL && System.nanoTime() - lastSync >= fsyncIntervalNanos) {
+            sync();
+        }
+    }
+
+    private void sync() {
+        if (unsynced.isEmpty()) {
+            return;
+        }
+
+        try {
+            channel.force(false);
+            lastSync = System.nanoTime();
+            acknowledge();
+        } catch (IOException e) {
+            fail(unsynced, e);
+        }
+    }
+
+    private long pollTimeoutNanos() {
+        if (fsyncPolicy != FsyncPolicy.INTERVAL || unsynced.isEmpty()) {
+            return IDLE_POLL_NANOS;
+        }
+
+        return Math.max(0, lastSync + fsyncIntervalNanos - System.nanoTime());
+    }
+
+    private void acknowledge() {
+        unsynced.forEach(pending -> pending.written().complete(pending.offset()));
+        unsynced.clear();
+    }
+
+    private void discardPartialWrite() {
+        try {
+            channel.truncate(end);
+        } catch (IOException e) {
+            logger.error(WRITE_FAIL, e);
+        }
+    }
+
+    private void fail(List<Pending> failed, IOException e) {
+        logger.error(WRITE_FAIL, e);
+        failed.forEach(pending -> pending.written().completeExceptionally(e));
+        failed.clear();
+    }
+}
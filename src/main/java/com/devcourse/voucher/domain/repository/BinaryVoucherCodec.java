@@ -0,0 +1,101 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+class BinaryVoucherCodec implements VoucherCodec {
+    static final int MAGIC = 0x56434852;
+    static final int VERSION = 1;
+    static final int HEADER_LENGTH = Integer.BYTES * 2;
+    static final int RECORD_LENGTH = Long.BYTES * 2 + Integer.BYTES + Long.BYTES + Byte.BYTES * 2;
+
+    private static final String INVALID_HEADER = "Not A Voucher Binary File. Magic : ";
+    private static final String TRUNCATED_HEADER = "Voucher Binary File Header Truncated. Length : ";
+    private static final String UNSUPPORTED_VERSION = "Unsupported Voucher File Version : ";
+    private static final byte TOMBSTONE = -1;
+    private static final int NO_RECORD = 0;
+    private static final int DISCOUNT = Long.BYTES * 2;
+    private static final int EXPIRED_AT = DISCOUNT + Integer.BYTES;
+    private static final int TYPE = EXPIRED_AT + Long.BYTES;
+    private static final int STATUS = TYPE + Byte.BYTES;
+    // type and status are persisted by ordinal, so new constants must be appended
+    private static final Voucher.Type[] TYPES = Voucher.Type.values();
+    private static final Voucher.Status[] STATUSES = Voucher.Status.values();
+
+    @Override
+    public byte[] header() {
+        return ByteBuffer.allocate(HEADER_LENGTH)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .array();
+    }
+
+    @Override
+    public void verifyHeader(ByteBuffer file) {
+        if (file.limit() < HEADER_LENGTH) {
+            throw new IllegalStateException(TRUNCATED_HEADER + file.limit());
+        }
+
+        int magic = file.getInt(0);
+        if (magic != MAGIC) {
+            throw new IllegalStateException(INVALID_HEADER + Integer.toHexString(magic));
+        }
+
+        int version = file.getInt(Integer.BYTES);
+        if (version != VERSION) {
+            throw new IllegalStateException(UNSUPPORTED_VERSION + version);
+        }
+    }
+
+    @Override
+    public byte[] encode(Voucher voucher) {
+        return write(voucher.id(), voucher.discount(), voucher.expireAt().toEpochSecond(ZoneOffset.UTC),
+                (byte) voucher.type().ordinal(), (byte) voucher.status().ordinal());
+    }
+
+    @Override
+    public byte[] encodeTombstone(UUID id) {
+        return write(id, 0, 0, TOMBSTONE, TOMBSTONE);
+    }
+
+    @Override
+    public int recordLength(ByteBuffer file, int offset) {
+        return file.limit() - offset < RECORD_LENGTH ? NO_RECORD : RECORD_LENGTH;
+    }
+
+    @Override
+    public UUID readId(ByteBuffer file, int offset, int length) {
+        return new UUID(file.getLong(offset), file.getLong(offset + Long.BYTES));
+    }
+
+    @Override
+    public boolean isTombstone(ByteBuffer file, int offset, int length) {
+        return file.get(offset + STATUS) == TOMBSTONE;
+    }
+
+    @Override
+    public Voucher decode(ByteBuffer file, int offset, int length) {
+        UUID id = new UUID(file.getLong(offset), file.getLong(offset + Long.BYTES));
+        int discount = file.getInt(offset + DISCOUNT);
+        LocalDateTime expiredAt = LocalDateTime.ofEpochSecond(file.getLong(offset + EXPIRED_AT), 0, ZoneOffset.UTC);
+        Voucher.Type type = TYPES[file.get(offset + TYPE)];
+        Voucher.Status status = STATUSES[file.get(offset + STATUS)];
+
+        return new Voucher(id, discount, expiredAt, type, status);
+    }
+
+    private byte[] write(UUID id, int discount, long expiredAt, byte type, byte status) {
+        return ByteBuffer.allocate(RECORD_LENGTH)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .putInt(discount)
+                .putLong(expiredAt)
+                .put(type)
+                .put(status)
+                .array();
+    }
+}
@@ -0,0 +1,436 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@Profile("columnar")
+class ColumnarVoucherRepository extends AbstractVoucherRepository {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int EMPTY = -1;
+    private static final int NOT_FOUND = -1;
+    private static final Voucher.Type[] TYPES = Voucher.Type.values();
+    private static final Voucher.Status[] STATUSES = Voucher.Status.values();
+    private static final byte ISSUED = (byte) Voucher.Status.ISSUED.ordinal();
+    private static final byte EXPIRED = (byte) Voucher.Status.EXPIRED.ordinal();
+    private static final byte USED = (byte) Voucher.Status.USED.ordinal();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[] mostSignificantBits = new long[INITIAL_CAPACITY];
+    private long[] leastSignificantBits = new long[INITIAL_CAPACITY];
+    private int[] discounts = new int[INITIAL_CAPACITY];
+    private long[] expiredAts = new long[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private int[] slots = emptySlots(INITIAL_CAPACITY * 2);
+    private int size;
+
+    @Override
+    public Voucher save(Voucher voucher) {
+        withLock(lock.writeLock(), () -> put(voucher));
+        return voucher;
+    }
+
+    @Override
+    public void saveAll(Collection<Voucher> vouchers) {
+        withLock(lock.writeLock(), () -> vouchers.forEach(this::put));
+    }
+
+    @Override
+    public List<Voucher> findAll() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+
+        try {
+            List<Voucher> vouchers = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                vouchers.add(materialize(row));
+            }
+            return vouchers;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Voucher> findAllAfter(UUID lastId, int size) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+
+        try {
+            int[] rows = rowsAfter(lastId, size);
+            List<Voucher> vouchers = new ArrayList<>(rows.length);
+            for (int row : rows) {
+                vouchers.add(materialize(row));
+            }
+            return vouchers;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Voucher> findAllBy(Voucher.Status status, Voucher.Type type, LocalDateTime from, LocalDateTime to) {
+        byte statusCode = (byte) status.ordinal();
+        byte typeCode = (byte) type.ordinal();
+        long fromSecond = ceilEpochSecond(from);
+        long toSecond = ceilEpochSecond(to);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+
+        try {
+            List<Voucher> vouchers = new ArrayList<>();
+            for (int row = 0; row < size; row++) {
+                if (matches(row, statusCode, typeCode, fromSecond, toSecond)) {
+                    vouchers.add(materialize(row));
+                }
+            }
+            vouchers.sort(EXPIRY_ORDER);
+            return vouchers;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    int countBy(Voucher.Status status, Voucher.Type type, LocalDateTime from, LocalDateTime to) {
+        byte statusCode = (byte) status.ordinal();
+        byte typeCode = (byte) type.ordinal();
+        long fromSecond = ceilEpochSecond(from);
+        long toSecond = ceilEpochSecond(to);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+
+        try {
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                if (matches(row, statusCode, typeCode, fromSecond, toSecond)) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID id) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+
+        try {
+            int row = rowOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return row == NOT_FOUND ? Optional.empty() : Optional.of(materialize(row));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        withLock(lock.writeLock(), () -> {
+            int slot = slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (slots[slot] != EMPTY) {
+                remove(slot);
+            }
+        });
+    }
+
+    @Override
+    public void updateStatus(UUID id, String status) {
+        byte statusCode = (byte) Enum.valueOf(Voucher.Status.class, status).ordinal();
+
+        withLock(lock.writeLock(), () -> {
+            int row = rowOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (row != NOT_FOUND) {
+                statuses[row] = statusCode;
+            }
+        });
+    }
+
+    @Override
+    public int expireAll(Collection<UUID> ids) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+
+        try {
+            int expired = 0;
+            for (UUID id : ids) {
+                int row = rowOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+                if (row != NOT_FOUND && statuses[row] == ISSUED) {
+                    statuses[row] = EXPIRED;
+                    expired++;
+                }
+            }
+            return expired;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean redeem(UUID id) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+
+        try {
+            int row = rowOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (row == NOT_FOUND || statuses[row] != ISSUED) {
+                return false;
+            }
+
+            statuses[row] = USED;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+
+        try {
+            return size;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void put(Voucher voucher) {
+        long msb = voucher.id().getMostSignificantBits();
+        long lsb = voucher.id().getLeastSignificantBits();
+        int slot = slotOf(msb, lsb);
+        int row = slots[slot];
+
+        if (row == EMPTY) {
+            ensureCapacity();
+            row = size++;
+            mostSignificantBits[row] = msb;
+            leastSignificantBits[row] = lsb;
+            slots[slotOf(msb, lsb)] = row;
+        }
+
+        discounts[row] = voucher.discount();
+        expiredAts[row] = voucher.expireAt().toEpochSecond(ZoneOffset.UTC);
+        types[row] = (byte) voucher.type().ordinal();
+        statuses[row] = (byte) voucher.status().ordinal();
+    }
+
+    private void remove(int slot) {
+        int row = slots[slot];
+        int last = size - 1;
+        deleteSlot(slot);
+
+        if (row != last) {
+            slots[slotOf(mostSignificantBits[last], leastSignificantBits[last])] = row;
+            mostSignificantBits[row] = mostSignificantBits[last];
+            leastSignificantBits[row] = leastSignificantBits[last];
+            discounts[row] = discounts[last];
+            expiredAts[row] = expiredAts[last];
+            types[row] = types[last];
+            statuses[row] = statuses[last];
+        }
+
+        size--;
+    }
+
+    private void deleteSlot(int slot) {
+        int mask = slots.length - 1;
+        int hole = slot;
+        int next = slot;
+
+        while (true) {
+            next = (next + 1) & mask;
+            int row = slots[next];
+
+            if (row == EMPTY) {
+                break;
+            }
+
+            int home = hash(mostSignificantBits[row], leastSignificantBits[row]) & mask;
+            boolean movable = hole <= next
+                    ? home <= hole || home > next
+                    : home <= hole && home > next;
+
+            if (movable) {
+                slots[hole] = row;
+                hole = next;
+            }
+        }
+
+        slots[hole] = EMPTY;
+    }
+
+    private int rowOf(long msb, long lsb) {
+        int row = slots[slotOf(msb, lsb)];
+        return row == EMPTY ? NOT_FOUND : row;
+    }
+
+    private int slotOf(long msb, long lsb) {
+        int mask = slots.length - 1;
+        int slot = hash(msb, lsb) & mask;
+
+        while (true) {
+            int row = slots[slot];
+            if (row == EMPTY || (mostSignificantBits[row] == msb && leastSignificantBits[row] == lsb)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void ensureCapacity() {
+        if (size == mostSignificantBits.length) {
+            int capacity = size * 2;
+            mostSignificantBits = Arrays.copyOf(mostSignificantBits, capacity);
+            leastSignificantBits = Arrays.copyOf(leastSignificantBits, capacity);
+            discounts = Arrays.copyOf(discounts, capacity);
+            expiredAts = Arrays.copyOf(expiredAts, capacity);
+            types = Arrays.copyOf(types, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+        }
+
+        if ((size + 1) * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+    }
+
+    private void rehash(int capacity) {
+        slots = emptySlots(capacity);
+
+        for (int row = 0; row < size; row++) {
+            slots[slotOf(mostSignificantBits[row], leastSignificantBits[row])] = row;
+        }
+    }
+
+    // keeps the smallest ids above lastId in a max-heap of rows, then heap-sorts them into id order
+    private int[] rowsAfter(UUID lastId, int limit) {
+        int[] heap = new int[Math.min(limit, size)];
+        int count = 0;
+
+        for (int row = 0; row < size; row++) {
+            if (lastId != null && compare(row, lastId.getMostSignificantBits(), lastId.getLeastSignificantBits()) <= 0) {
+                continue;
+            }
+
+            if (count < heap.length) {
+                heap[count] = row;
+                siftUp(heap, count++);
+            } else if (count > 0 && compare(row, heap[0]) < 0) {
+                heap[0] = row;
+                siftDown(heap, 0, count);
+            }
+        }
+
+        for (int last = count - 1; last > 0; last--) {
+            int root = heap[0];
+            heap[0] = heap[last];
+            heap[last] = root;
+            siftDown(heap, 0, last);
+        }
+
+        return count == heap.length ? heap : Arrays.copyOf(heap, count);
+    }
+
+    private void siftUp(int[] heap, int index) {
+        int row = heap[index];
+
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(heap[parent], row) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+
+        heap[index] = row;
+    }
+
+    private void siftDown(int[] heap, int index, int count) {
+        int row = heap[index];
+
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= count) {
+                break;
+            }
+            if (child + 1 < count && compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (compare(row, heap[child]) >= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+
+        heap[index] = row;
+    }
+
+    private int compare(int row, int other) {
+        return compare(row, mostSignificantBits[other], leastSignificantBits[other]);
+    }
+
+    private int compare(int row, long msb, long lsb) {
+        int compared = Long.compare(mostSignificantBits[row], msb);
+        return compared != 0 ? compared : Long.compare(leastSignificantBits[row], lsb);
+    }
+
+    private boolean matches(int row, byte status, byte type, long fromSecond, long toSecond) {
+        return statuses[row] == status
+                && types[row] == type
+                && expiredAts[row] >= fromSecond
+                && expiredAts[row] < toSecond;
+    }
+
+    private Voucher materialize(int row) {
+        return new Voucher(
+                new UUID(mostSignificantBits[row], leastSignificantBits[row]),
+                discounts[row],
+                LocalDateTime.ofEpochSecond(expiredAts[row], 0, ZoneOffset.UTC),
+                TYPES[types[row]],
+                STATUSES[statuses[row]]
+        );
+    }
+
+    private static long ceilEpochSecond(LocalDateTime dateTime) {
+        long second = dateTime.toEpochSecond(ZoneOffset.UTC);
+        return dateTime.getNano() == 0 ? second : second + 1;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long hash = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int[] emptySlots(int capacity) {
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+
+    private static void withLock(Lock lock, Runnable action) {
+        lock.lock();
+
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
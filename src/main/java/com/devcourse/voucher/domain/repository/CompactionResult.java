@@ -0,0 +1,6 @@
+package com.devcourse.voucher.domain.repository;
+
+import java.time.Duration;
+
+record CompactionResult(long reclaimedBytes, Duration elapsed) {
+}
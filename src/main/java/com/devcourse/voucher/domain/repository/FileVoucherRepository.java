@@ -1,67 +1,495 @@
 package com.devcourse.voucher.domain.repository;
 
 import com.devcourse.voucher.domain.Voucher;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.StringTokenizer;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
-import static com.devcourse.global.common.Constant.DELIMITER;
 import static com.devcourse.global.common.Constant.FILE_READ_FAIL;
-import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 @Component
 @Profile("file")
 class FileVoucherRepository extends AbstractVoucherRepository {
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+    private static final Logger logger = LoggerFactory.getLogger(FileVoucherRepository.class);
     private static final String SAVE_FAIL = "Voucher Save Failed.";
+    private static final String TORN_RECORD_DISCARDED = "Torn Voucher Record Discarded. Bytes : {}";
+    private static final String SEGMENT_SUFFIX = ".compact";
+    private static final int LOCK_STRIPES = 64;
 
-    private final File vouchers;
+    private record Location(long offset, int length, boolean live) {
+        private static Location latest(Location current, Location candidate) {
+            return candidate.offset() > current.offset() ? candidate : current;
+        }
+
+        private long liveBytes() {
+            return live ? length : 0;
+        }
+    }
+
+    private final Path path;
+    private final VoucherCodec codec;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalMillis;
+    private final Map<UUID, Location> index = new ConcurrentHashMap<>();
+    private final NavigableSet<UUID> ids = new ConcurrentSkipListSet<>();
+    private final AtomicLong liveBytes = new AtomicLong();
+    private final ReadWriteLock fileLock = new ReentrantReadWriteLock();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private volatile AppendLog appendLog;
+
+    public FileVoucherRepository(@Value("${file.path:${path.txt}}") String path,
+                                 @Value("${file.format:TEXT}") VoucherFileFormat format,
+                                 @Value("${file.fsync:ALWAYS}") FsyncPolicy fsyncPolicy,
+                                 @Value("${file.fsync-interval-ms:10}") long fsyncIntervalMillis) {
+        this.path = Path.of(path);
+        this.codec = format.codec();
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+
+        try {
+            appendLog = new AppendLog(this.path, fsyncPolicy, fsyncIntervalMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException(FILE_READ_FAIL, e);
+        }
 
-    public FileVoucherRepository(@Value("${path.txt}") String path) {
-        vouchers = new File(path);
+        try {
+            initialize();
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(appendLog);
+            throw e instanceof IOException io ? new UncheckedIOException(FILE_READ_FAIL, io) : (RuntimeException) e;
+        }
     }
 
     @Override
     public Voucher save(Voucher voucher) {
-        try (FileWriter writer = new FileWriter(vouchers, true)) {
-            writer.write(voucher.toText() + "\n");
-            return voucher;
-        } catch (IOException e) {
-            throw new RuntimeException(SAVE_FAIL);
+        synchronized (lockFor(voucher.id())) {
+            withLock(fileLock.readLock(), () -> append(voucher.id(), codec.encode(voucher), true));
+        }
+        return voucher;
+    }
+
+    @Override
+    public void saveAll(Collection<Voucher> vouchers) {
+        if (vouchers.isEmpty()) {
+            return;
         }
+
+        withStripes(vouchers.stream().map(Voucher::id).toList(),
+                () -> withLock(fileLock.readLock(), () -> appendAll(vouchers)));
     }
 
     @Override
     public List<Voucher> findAll() {
-        try(BufferedReader reader = new BufferedReader(new FileReader(vouchers, UTF_8))) {
-            return reader.lines()
-                    .map(this::toVoucher)
+        Lock lock = fileLock.readLock();
+        lock.lock();
+
+        try {
+            ByteBuffer file = appendLog.map();
+            return index.values().stream()
+                    .filter(location -> location.live() && location.offset() + location.length() <= file.limit())
+                    .sorted(Comparator.comparingLong(Location::offset))
+                    .map(location -> codec.decode(file, (int) location.offset(), location.length()))
                     .toList();
         } catch (IOException e) {
             throw new RuntimeException(FILE_READ_FAIL);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Voucher> findAllAfter(UUID lastId, int size) {
+        Lock lock = fileLock.readLock();
+        lock.lock();
+
+        try {
+            ByteBuffer file = appendLog.map();
+            List<Voucher> vouchers = new ArrayList<>(size);
+
+            for (UUID id : idsAfter(ids, lastId)) {
+                if (vouchers.size() == size) {
+                    break;
+                }
+
+                Location location = index.get(id);
+                if (location != null && location.live() && location.offset() + location.length() <= file.limit()) {
+                    vouchers.add(codec.decode(file, (int) location.offset(), location.length()));
+                }
+            }
+
+            return vouchers;
+        } catch (IOException e) {
+            throw new RuntimeException(FILE_READ_FAIL);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID id) {
+        Lock lock = fileLock.readLock();
+        lock.lock();
+
+        try {
+            Location location = index.get(id);
+
+            if (location == null || !location.live()) {
+                return Optional.empty();
+            }
+
+            ByteBuffer record = appendLog.read(location.offset(), location.length());
+            return Optional.of(codec.decode(record, 0, location.length()));
+        } catch (IOException e) {
+            throw new RuntimeException(FILE_READ_FAIL);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        synchronized (lockFor(id)) {
+            withLock(fileLock.readLock(), () -> {
+                if (findById(id).isPresent()) {
+                    append(id, codec.encodeTombstone(id), false);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void updateStatus(UUID id, String status) {
+        synchronized (lockFor(id)) {
+            withLock(fileLock.readLock(), () -> findById(id).ifPresent(voucher -> {
+                Voucher.Status newStatus = Enum.valueOf(Voucher.Status.class, status);
+                append(id, codec.encode(voucher.withStatus(newStatus)), true);
+            }));
+        }
+    }
+
+    @Override
+    public boolean redeem(UUID id) {
+        synchronized (lockFor(id)) {
+            return withLock(fileLock.readLock(), () -> {
+                Optional<Voucher> issued = findById(id).filter(Voucher::isIssued);
+                issued.ifPresent(voucher -> append(id, codec.encode(voucher.withStatus(Voucher.Status.USED)), true));
+                return issued.isPresent();
+            });
+        }
+    }
+
+    @Override
+    public int expireAll(Collection<UUID> ids) {
+        return withStripes(ids, () -> withLock(fileLock.readLock(), () -> {
+            List<Voucher> expired = ids.stream()
+                    .distinct()
+                    .map(this::findById)
+                    .flatMap(Optional::stream)
+                    .filter(Voucher::isIssued)
+                    .map(voucher -> voucher.withStatus(Voucher.Status.EXPIRED))
+                    .toList();
+
+            if (!expired.isEmpty()) {
+                appendAll(expired);
+            }
+
+            return expired.size();
+        }));
+    }
+
+    double garbageRatio() {
+        long size = appendLog.size() - codec.header().length;
+        return size <= 0 ? 0 : 1 - (double) liveBytes.get() / size;
+    }
+
+    synchronized CompactionResult compact() throws IOException {
+        long started = System.nanoTime();
+        long before = appendLog.size();
+        Path segment = path.resolveSibling(path.getFileName() + SEGMENT_SUFFIX);
+        Map<UUID, Location> compacted = new HashMap<>();
+
+        long snapshotEnd;
+        List<Map.Entry<UUID, Location>> live;
+        Lock snapshotLock = fileLock.writeLock();
+        snapshotLock.lock();
+
+        try {
+            snapshotEnd = appendLog.size();
+            live = index.entrySet().stream()
+                    .filter(entry -> entry.getValue().live())
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().offset()))
+                    .toList();
+        } finally {
+            snapshotLock.unlock();
+        }
+
+        try (FileChannel out = FileChannel.open(segment, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            ByteBuffer file = appendLog.map();
+            long position = writeFully(out, ByteBuffer.wrap(codec.header()));
+
+            for (Map.Entry<UUID, Location> entry : live) {
+                Location location = entry.getValue();
+                writeFully(out, file.slice((int) location.offset(), location.length()));
+                compacted.put(entry.getKey(), new Location(position, location.length(), true));
+                position += location.length();
+            }
+
+            Lock lock = fileLock.writeLock();
+            lock.lock();
+
+            try {
+                copyTail(out, snapshotEnd, position, compacted);
+                out.force(true);
+                swap(segment, compacted);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return new CompactionResult(before - appendLog.size(), Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        appendLog.close();
+    }
+
+    private void copyTail(FileChannel out, long snapshotEnd, long position, Map<UUID, Location> compacted) throws IOException {
+        ByteBuffer file = appendLog.map();
+        int offset = (int) snapshotEnd;
+        int length;
+
+        while ((length = codec.recordLength(file, offset)) > 0) {
+            UUID id = codec.readId(file, offset, length);
+            boolean live = !codec.isTombstone(file, offset, length);
+            writeFully(out, file.slice(offset, length));
+            compacted.merge(id, new Location(position, length, live), Location::latest);
+            position += length;
+            offset += length;
+        }
+    }
+
+    private void swap(Path segment, Map<UUID, Location> compacted) throws IOException {
+        AppendLog compactedLog = new AppendLog(segment, fsyncPolicy, fsyncIntervalMillis);
+
+        try {
+            Files.move(segment, path, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(compactedLog);
+            throw e;
+        }
+
+        AppendLog previous = appendLog;
+        appendLog = compactedLog;
+        closeQuietly(previous);
+
+        index.clear();
+        index.putAll(compacted);
+        ids.retainAll(compacted.keySet());
+        liveBytes.set(compacted.values().stream().mapToLong(Location::liveBytes).sum());
+
+        syncDirectory();
+    }
+
+    private void syncDirectory() throws IOException {
+        try (FileChannel directory = FileChannel.open(path.toAbsolutePath().getParent(), READ)) {
+            directory.force(true);
+        }
+    }
+
+    private long writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int length = buffer.remaining();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        return length;
+    }
+
+    private void closeQuietly(AppendLog log) {
+        try {
+            log.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void initialize() throws IOException {
+        byte[] header = codec.header();
+
+        if (isTornHeader(header)) {
+            logger.warn(TORN_RECORD_DISCARDED, appendLog.size());
+            appendLog.truncate(0);
+        }
+
+        if (appendLog.size() == 0 && header.length > 0) {
+            write(ByteBuffer.wrap(header));
+        }
+
+        ByteBuffer file = appendLog.map();
+        if (header.length > 0) {
+            codec.verifyHeader(file);
+        }
+
+        int offset = header.length;
+        int length;
+
+        while ((length = codec.recordLength(file, offset)) > 0) {
+            UUID id = codec.readId(file, offset, length);
+            boolean live = !codec.isTombstone(file, offset, length);
+            index(id, new Location(offset, length, live));
+            offset += length;
+        }
+
+        if (offset < file.limit()) {
+            logger.warn(TORN_RECORD_DISCARDED, file.limit() - offset);
+            appendLog.truncate(offset);
         }
     }
 
-    private Voucher toVoucher(String fileForm) {
-        StringTokenizer tokenizer = new StringTokenizer(fileForm, DELIMITER);
+    private boolean isTornHeader(byte[] header) throws IOException {
+        int written = (int) appendLog.size();
 
-        UUID id = UUID.fromString(tokenizer.nextToken());
-        int discount = Integer.parseInt(tokenizer.nextToken());
-        Voucher.Type type = Enum.valueOf(Voucher.Type.class, tokenizer.nextToken());
-        LocalDateTime expiredAt = LocalDateTime.parse(tokenizer.nextToken(), TIME_FORMATTER);
-        Voucher.Status status = Enum.valueOf(Voucher.Status.class, tokenizer.nextToken());
+        if (written == 0 || written >= header.length) {
+            return false;
+        }
+
+        return appendLog.read(0, written).equals(ByteBuffer.wrap(header, 0, written));
+    }
+
+    private void appendAll(Collection<Voucher> vouchers) {
+        List<byte[]> records = vouchers.stream()
+                .map(codec::encode)
+                .toList();
+        ByteBuffer buffer = ByteBuffer.allocate(records.stream().mapToInt(record -> record.length).sum());
+        records.forEach(buffer::put);
+
+        long offset = write(buffer.flip());
+        int i = 0;
+
+        for (Voucher voucher : vouchers) {
+            int length = records.get(i++).length;
+            index(voucher.id(), new Location(offset, length, true));
+            offset += length;
+        }
+    }
+
+    private void append(UUID id, byte[] record, boolean live) {
+        long offset = write(ByteBuffer.wrap(record));
+        index(id, new Location(offset, record.length, live));
+    }
+
+    private void index(UUID id, Location location) {
+        ids.add(id);
+        index.compute(id, (key, current) -> {
+            if (current == null) {
+                liveBytes.addAndGet(location.liveBytes());
+                return location;
+            }
+
+            Location latest = Location.latest(current, location);
+            liveBytes.addAndGet(latest.liveBytes() - current.liveBytes());
+            return latest;
+        });
+    }
+
+    private long write(ByteBuffer records) {
+        try {
+            return appendLog.append(records);
+        } catch (UncheckedIOException e) {
+            throw new RuntimeException(SAVE_FAIL);
+        }
+    }
+
+    private void withLock(Lock lock, Runnable action) {
+        lock.lock();
+
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T withLock(Lock lock, Supplier<T> action) {
+        lock.lock();
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void withStripes(Collection<UUID> ids, Runnable action) {
+        withStripes(ids, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // stripes are always taken in ascending order so that batches sharing stripes cannot deadlock
+    private <T> T withStripes(Collection<UUID> ids, Supplier<T> action) {
+        int[] stripes = ids.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+        return withStripes(stripes, 0, action);
+    }
+
+    private <T> T withStripes(int[] stripes, int next, Supplier<T> action) {
+        if (next == stripes.length) {
+            return action.get();
+        }
+
+        synchronized (locks[stripes[next]]) {
+            return withStripes(stripes, next + 1, action);
+        }
+    }
+
+    private int stripeOf(UUID id) {
+        return (id.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES;
+    }
 
-        return new Voucher(id, discount, expiredAt, type, status);
+    private Object lockFor(UUID id) {
+        return locks[stripeOf(id)];
     }
 }
@@ -0,0 +1,8 @@
+package com.devcourse.voucher.domain.repository;
+
+enum FsyncPolicy {
+    ALWAYS,
+    INTERVAL,
+    NEVER,
+    ;
+}
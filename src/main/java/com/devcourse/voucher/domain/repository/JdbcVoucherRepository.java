@@ -1,48 +1,74 @@
 package com.devcourse.voucher.domain.repository;
 
-import com.devcourse.global.sql.Delete;
-import com.devcourse.global.sql.Insert;
-import com.devcourse.global.sql.Select;
-import com.devcourse.global.sql.Update;
+import com.devcourse.global.sql.EntityMetadata;
+import com.devcourse.global.sql.IdColumnType;
+import com.devcourse.global.sql.QueryCache;
+import com.devcourse.global.sql.QueryShape;
 import com.devcourse.global.sql.Where;
 import com.devcourse.voucher.domain.Voucher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Component
 @Profile("dev")
 class JdbcVoucherRepository implements VoucherRepository {
-    private final RowMapper<Voucher> voucherMapper = (resultSet, resultNumber) -> {
-        UUID id = UUID.fromString(resultSet.getString("id"));
-        int discount = Integer.parseInt(resultSet.getString("discount"));
-        LocalDateTime expiredAt = resultSet.getTimestamp("expired_at").toLocalDateTime();
-        Voucher.Type type = Enum.valueOf(Voucher.Type.class, resultSet.getString("type"));
-        Voucher.Status status = Enum.valueOf(Voucher.Status.class, resultSet.getString("status"));
-        return new Voucher(id, discount, expiredAt, type, status);
-    };
+    private static final Where BY_ID = Where.builder()
+            .condition("id")
+            .build();
+    private static final QueryShape INSERT = QueryShape.insert(Voucher.class, "id", "discount", "expired_at", "type", "status");
+    private static final QueryShape SELECT_ALL = QueryShape.select(Voucher.class);
+    private static final QueryShape SELECT_BY_ID = QueryShape.select(Voucher.class).where(BY_ID);
+    private static final QueryShape SELECT_BY_STATUS = QueryShape.select(Voucher.class).where(
+            Where.builder()
+                    .condition("status")
+                    .and("type")
+                    .andGreaterThanOrEqual("expired_at")
+                    .andLessThan("expired_at")
+                    .orderBy("expired_at")
+                    .build()
+    );
+    private static final QueryShape DELETE_BY_ID = QueryShape.delete(Voucher.class).where(BY_ID);
+    private static final QueryShape UPDATE_STATUS = QueryShape.update(Voucher.class, "status").where(BY_ID);
+    private static final QueryShape REDEEM = QueryShape.update(Voucher.class, "status").where(
+            Where.builder()
+                    .condition("id")
+                    .and("status")
+                    .build()
+    );
 
     private final JdbcTemplate jdbcTemplate;
-
-    public JdbcVoucherRepository(JdbcTemplate jdbcTemplate) {
+    private final int batchSize;
+    private final int fetchSize;
+    private final IdColumnType idType;
+    private final RowMapper<Voucher> voucherMapper;
+
+    public JdbcVoucherRepository(JdbcTemplate jdbcTemplate,
+                                 @Value("${jdbc.batch-size:1000}") int batchSize,
+                                 @Value("${jdbc.fetch-size:500}") int fetchSize,
+                                 @Value("${jdbc.id-type:VARCHAR}") IdColumnType idType) {
         this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
+        this.idType = idType;
+        this.voucherMapper = EntityMetadata.of(Voucher.class).rowMapper(idType);
     }
 
     @Override
     public Voucher save(Voucher voucher) {
-        Insert insert = Insert.builder()
-                .into(Voucher.class)
-                .values("id", "discount", "expired_at", "type", "status")
-                .build();
-
-        jdbcTemplate.update(insert.getQuery(),
-                voucher.id().toString(),
+        jdbcTemplate.update(QueryCache.get(INSERT).sql(),
+                idType.bind(voucher.id()),
                 voucher.discount(),
                 voucher.expireAt(),
                 voucher.type().name(),
@@ -51,56 +77,130 @@ class JdbcVoucherRepository implements VoucherRepository {
         return voucher;
     }
 
+    @Override
+    public void saveAll(Collection<Voucher> vouchers) {
+        jdbcTemplate.batchUpdate(QueryCache.get(INSERT).sql(), vouchers, batchSize, (statement, voucher) -> {
+            statement.setObject(1, idType.bind(voucher.id()));
+            statement.setInt(2, voucher.discount());
+            statement.setObject(3, voucher.expireAt());
+            statement.setString(4, voucher.type().name());
+            statement.setString(5, voucher.status().name());
+        });
+    }
+
     @Override
     public List<Voucher> findAll() {
-        Select select = Select.builder()
-                .select(Voucher.class)
-                .build();
+        return jdbcTemplate.query(QueryCache.get(SELECT_ALL).sql(), voucherMapper);
+    }
 
-        return jdbcTemplate.query(select.getQuery(), voucherMapper);
+    @Override
+    public Stream<Voucher> streamAll() {
+        String sql = QueryCache.get(SELECT_ALL).sql();
+
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, voucherMapper);
+    }
+
+    @Override
+    public List<Voucher> findAllAfter(UUID lastId, int size) {
+        QueryShape page = QueryShape.select(Voucher.class).where(
+                Where.builder()
+                        .greaterThan("id")
+                        .orderBy("id")
+                        .limit(size)
+                        .build()
+        );
+        Object after = lastId == null ? idType.lowest() : idType.bind(lastId);
+
+        return jdbcTemplate.query(QueryCache.get(page).sql(), voucherMapper, after);
+    }
+
+    @Override
+    public List<Voucher> findAllBy(Voucher.Status status, Voucher.Type type, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(QueryCache.get(SELECT_BY_STATUS).sql(), voucherMapper,
+                status.name(),
+                type.name(),
+                from,
+                to);
+    }
+
+    @Override
+    public List<Voucher> findAllByIds(Collection<UUID> ids) {
+        List<UUID> distinct = ids.stream()
+                .distinct()
+                .toList();
+        List<Voucher> found = new ArrayList<>(distinct.size());
+
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            List<UUID> chunk = distinct.subList(from, Math.min(from + batchSize, distinct.size()));
+            int bucket = Where.bucket(chunk.size());
+            QueryShape select = QueryShape.select(Voucher.class).where(
+                    Where.builder()
+                            .in("id", bucket)
+                            .build()
+            );
+
+            Object[] arguments = idType.bindAll(chunk, new Object[bucket], 0);
+            found.addAll(jdbcTemplate.query(QueryCache.get(select).sql(), voucherMapper, arguments));
+        }
+
+        return found;
     }
 
     @Override
     public Optional<Voucher> findById(UUID id) {
-        Select select = Select.builder()
-                .select(Voucher.class)
-                .where(
-                        Where
-                                .builder()
-                                .condition("id")
-                                .build()
-                ).build();
-
-        return jdbcTemplate.query(select.getQuery(), voucherMapper, id.toString())
+        return jdbcTemplate.query(QueryCache.get(SELECT_BY_ID).sql(), voucherMapper, idType.bind(id))
                 .stream()
                 .findFirst();
     }
 
     @Override
     public void deleteById(UUID id) {
-        Delete delete = Delete.builder()
-                .from(Voucher.class)
-                .where(
-                        Where
-                                .builder()
-                                .condition("id")
-                                .build()
-                ).build();
-
-        jdbcTemplate.update(delete.getQuery(), id.toString());
+        jdbcTemplate.update(QueryCache.get(DELETE_BY_ID).sql(), idType.bind(id));
     }
 
     @Override
     public void updateStatus(UUID id, String status) {
-        Update update = Update.builder()
-                .table(Voucher.class)
-                .values("status")
-                .where(
-                        Where.builder()
-                                .condition("id")
-                                .build()
-                ).build();
-
-        jdbcTemplate.update(update.getQuery(), status, id.toString());
+        jdbcTemplate.update(QueryCache.get(UPDATE_STATUS).sql(), status, idType.bind(id));
+    }
+
+    @Override
+    public boolean redeem(UUID id) {
+        int updated = jdbcTemplate.update(QueryCache.get(REDEEM).sql(),
+                Voucher.Status.USED.name(),
+                idType.bind(id),
+                Voucher.Status.ISSUED.name());
+
+        return updated == 1;
+    }
+
+    @Override
+    public int expireAll(Collection<UUID> ids) {
+        List<UUID> distinct = ids.stream()
+                .distinct()
+                .toList();
+        int expired = 0;
+
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            List<UUID> chunk = distinct.subList(from, Math.min(from + batchSize, distinct.size()));
+            int bucket = Where.bucket(chunk.size());
+            QueryShape expire = QueryShape.update(Voucher.class, "status").where(
+                    Where.builder()
+                            .condition("status")
+                            .andIn("id", bucket)
+                            .build()
+            );
+
+            Object[] arguments = idType.bindAll(chunk, new Object[bucket + 2], 2);
+            arguments[0] = Voucher.Status.EXPIRED.name();
+            arguments[1] = Voucher.Status.ISSUED.name();
+
+            expired += jdbcTemplate.update(QueryCache.get(expire).sql(), arguments);
+        }
+
+        return expired;
     }
 }
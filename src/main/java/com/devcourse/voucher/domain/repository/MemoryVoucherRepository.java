@@ -4,24 +4,191 @@ import com.devcourse.voucher.domain.Voucher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.stream.Stream;
 
 @Component
 @Profile("memory")
 class MemoryVoucherRepository extends AbstractVoucherRepository {
     private final Map<UUID, Voucher> memoryStorage = new ConcurrentHashMap<>();
+    private final Map<Voucher.Status, Set<UUID>> statusIndex = new EnumMap<>(Voucher.Status.class);
+    private final Map<Voucher.Type, Set<UUID>> typeIndex = new EnumMap<>(Voucher.Type.class);
+    private final ConcurrentNavigableMap<Long, Set<UUID>> expiryIndex = new ConcurrentSkipListMap<>();
+    private final NavigableSet<UUID> ids = new ConcurrentSkipListSet<>();
+
+    MemoryVoucherRepository() {
+        for (Voucher.Status status : Voucher.Status.values()) {
+            statusIndex.put(status, ConcurrentHashMap.newKeySet());
+        }
+
+        for (Voucher.Type type : Voucher.Type.values()) {
+            typeIndex.put(type, ConcurrentHashMap.newKeySet());
+        }
+    }
 
     @Override
     public Voucher save(Voucher voucher) {
-        memoryStorage.put(voucher.id(), voucher);
+        memoryStorage.compute(voucher.id(), (id, previous) -> reindex(previous, voucher));
         return voucher;
     }
 
+    @Override
+    public void saveAll(Collection<Voucher> vouchers) {
+        vouchers.forEach(this::save);
+    }
+
     @Override
     public List<Voucher> findAll() {
         return List.copyOf(memoryStorage.values());
     }
+
+    @Override
+    public List<Voucher> findAllAfter(UUID lastId, int size) {
+        return idsAfter(ids, lastId).stream()
+                .map(memoryStorage::get)
+                .filter(Objects::nonNull)
+                .limit(size)
+                .toList();
+    }
+
+    @Override
+    public List<Voucher> findAllBy(Voucher.Status status, Voucher.Type type, LocalDateTime from, LocalDateTime to) {
+        Set<UUID> byStatus = statusIndex.get(status);
+        Set<UUID> byType = typeIndex.get(type);
+        Set<UUID> narrower = byStatus.size() <= byType.size() ? byStatus : byType;
+        Set<UUID> wider = narrower == byStatus ? byType : byStatus;
+
+        Collection<Set<UUID>> buckets = expiryIndex.subMap(bucketOf(from), true, bucketOf(to), true).values();
+        long bucketed = buckets.stream()
+                .mapToLong(Set::size)
+                .sum();
+        Stream<UUID> candidates = narrower.size() <= bucketed
+                ? narrower.stream()
+                : buckets.stream().flatMap(Set::stream);
+
+        return candidates
+                .filter(wider::contains)
+                .map(memoryStorage::get)
+                .filter(Objects::nonNull)
+                .filter(voucher -> matches(voucher, status, type, from, to))
+                .sorted(EXPIRY_ORDER)
+                .toList();
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID id) {
+        return Optional.ofNullable(memoryStorage.get(id));
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        memoryStorage.computeIfPresent(id, (key, previous) -> reindex(previous, null));
+    }
+
+    @Override
+    public void updateStatus(UUID id, String status) {
+        Voucher.Status newStatus = Enum.valueOf(Voucher.Status.class, status);
+
+        memoryStorage.computeIfPresent(id, (key, previous) -> reindex(previous, previous.withStatus(newStatus)));
+    }
+
+    @Override
+    public int expireAll(Collection<UUID> ids) {
+        AtomicInteger expired = new AtomicInteger();
+
+        for (UUID id : ids) {
+            memoryStorage.computeIfPresent(id, (key, previous) -> {
+                if (!previous.isIssued()) {
+                    return previous;
+                }
+
+                expired.incrementAndGet();
+                return reindex(previous, previous.withStatus(Voucher.Status.EXPIRED));
+            });
+        }
+
+        return expired.get();
+    }
+
+    @Override
+    public boolean redeem(UUID id) {
+        AtomicBoolean redeemed = new AtomicBoolean();
+
+        memoryStorage.computeIfPresent(id, (key, previous) -> {
+            if (!previous.isIssued()) {
+                return previous;
+            }
+
+            redeemed.set(true);
+            return reindex(previous, previous.withStatus(Voucher.Status.USED));
+        });
+
+        return redeemed.get();
+    }
+
+    private Voucher reindex(Voucher previous, Voucher current) {
+        if (previous != null) {
+            statusIndex.get(previous.status()).remove(previous.id());
+            typeIndex.get(previous.type()).remove(previous.id());
+            unbucket(previous);
+        }
+
+        if (current == null) {
+            ids.remove(previous.id());
+        } else {
+            ids.add(current.id());
+        }
+
+        if (current != null) {
+            statusIndex.get(current.status()).add(current.id());
+            typeIndex.get(current.type()).add(current.id());
+            bucket(current);
+        }
+
+        return current;
+    }
+
+    // ConcurrentSkipListMap.compute is not atomic, so bucket membership changes share one monitor;
+    // otherwise an id added to a bucket just as it empties could be dropped along with it.
+    private void bucket(Voucher voucher) {
+        synchronized (expiryIndex) {
+            expiryIndex.computeIfAbsent(bucketOf(voucher.expireAt()), bucket -> ConcurrentHashMap.newKeySet())
+                    .add(voucher.id());
+        }
+    }
+
+    private void unbucket(Voucher voucher) {
+        long key = bucketOf(voucher.expireAt());
+
+        synchronized (expiryIndex) {
+            Set<UUID> bucket = expiryIndex.get(key);
+
+            if (bucket != null && bucket.remove(voucher.id()) && bucket.isEmpty()) {
+                expiryIndex.remove(key, bucket);
+            }
+        }
+    }
+
+    int expiryBuckets() {
+        return expiryIndex.size();
+    }
+
+    private static long bucketOf(LocalDateTime expiredAt) {
+        return expiredAt.toLocalDate().toEpochDay();
+    }
 }
@@ -0,0 +1,75 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.StringTokenizer;
+import java.util.UUID;
+
+import static com.devcourse.global.common.Constant.DELIMITER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+class TextVoucherCodec implements VoucherCodec {
+    private static final byte[] NO_HEADER = new byte[0];
+    private static final String DELETED = "DELETED";
+    private static final String LINE_SEPARATOR = "\n";
+    private static final byte NEW_LINE = '\n';
+    private static final int NO_RECORD = 0;
+
+    @Override
+    public byte[] header() {
+        return NO_HEADER;
+    }
+
+    @Override
+    public void verifyHeader(ByteBuffer file) { }
+
+    @Override
+    public byte[] encode(Voucher voucher) {
+        return (voucher.toText() + LINE_SEPARATOR).getBytes(UTF_8);
+    }
+
+    @Override
+    public byte[] encodeTombstone(UUID id) {
+        return (id + DELIMITER + DELETED + LINE_SEPARATOR).getBytes(UTF_8);
+    }
+
+    @Override
+    public int recordLength(ByteBuffer file, int offset) {
+        for (int position = offset; position < file.limit(); position++) {
+            if (file.get(position) == NEW_LINE) {
+                return position + 1 - offset;
+            }
+        }
+
+        return NO_RECORD;
+    }
+
+    @Override
+    public UUID readId(ByteBuffer file, int offset, int length) {
+        return UUID.fromString(new StringTokenizer(toLine(file, offset, length), DELIMITER).nextToken());
+    }
+
+    @Override
+    public boolean isTombstone(ByteBuffer file, int offset, int length) {
+        return toLine(file, offset, length).endsWith(DELETED);
+    }
+
+    @Override
+    public Voucher decode(ByteBuffer file, int offset, int length) {
+        StringTokenizer tokenizer = new StringTokenizer(toLine(file, offset, length), DELIMITER);
+
+        UUID id = UUID.fromString(tokenizer.nextToken());
+        int discount = Integer.parseInt(tokenizer.nextToken());
+        Voucher.Type type = Enum.valueOf(Voucher.Type.class, tokenizer.nextToken());
+        LocalDateTime expiredAt = LocalDateTime.parse(tokenizer.nextToken());
+        Voucher.Status status = Enum.valueOf(Voucher.Status.class, tokenizer.nextToken());
+
+        return new Voucher(id, discount, expiredAt, type, status);
+    }
+
+    private String toLine(ByteBuffer file, int offset, int length) {
+        return UTF_8.decode(file.slice(offset, length)).toString().strip();
+    }
+}
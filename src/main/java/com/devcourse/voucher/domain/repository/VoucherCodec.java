@@ -0,0 +1,24 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+interface VoucherCodec {
+    byte[] header();
+
+    void verifyHeader(ByteBuffer file);
+
+    byte[] encode(Voucher voucher);
+
+    byte[] encodeTombstone(UUID id);
+
+    int recordLength(ByteBuffer file, int offset);
+
+    UUID readId(ByteBuffer file, int offset, int length);
+
+    boolean isTombstone(ByteBuffer file, int offset, int length);
+
+    Voucher decode(ByteBuffer file, int offset, int length);
+}
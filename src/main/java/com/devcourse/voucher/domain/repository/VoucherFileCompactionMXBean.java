@@ -0,0 +1,11 @@
+package com.devcourse.voucher.domain.repository;
+
+public interface VoucherFileCompactionMXBean {
+    long getCompactions();
+
+    long getLastReclaimedBytes();
+
+    long getLastElapsedMillis();
+
+    double getGarbageRatio();
+}
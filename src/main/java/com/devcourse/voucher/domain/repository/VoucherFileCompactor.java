@@ -0,0 +1,106 @@
+package com.devcourse.voucher.domain.repository;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Profile("file")
+class VoucherFileCompactor implements VoucherFileCompactionMXBean {
+    private static final Logger logger = LoggerFactory.getLogger(VoucherFileCompactor.class);
+    private static final String COMPACTED = "Voucher file compacted: reclaimed {} bytes in {} ms";
+    private static final String COMPACTION_FAIL = "Voucher file compaction failed.";
+    private static final String OBJECT_NAME = "com.devcourse:type=Compaction,store=voucher-file";
+    private static final String JMX_REGISTER_FAILED = "Compaction MBean Registration Failed.";
+    private static final String JMX_UNREGISTER_FAILED = "Compaction MBean Unregistration Failed.";
+
+    private final FileVoucherRepository repository;
+    private final double garbageRatio;
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private final AtomicLong compactions = new AtomicLong();
+    private volatile CompactionResult lastCompaction = new CompactionResult(0, Duration.ZERO);
+
+    public VoucherFileCompactor(FileVoucherRepository repository,
+                                @Value("${file.compaction.garbage-ratio:0.5}") double garbageRatio) {
+        this.repository = repository;
+        this.garbageRatio = garbageRatio;
+        register();
+    }
+
+    @Scheduled(fixedDelayString = "${file.compaction.check-interval-ms:60000}")
+    public void compactIfNeeded() {
+        if (repository.garbageRatio() < garbageRatio) {
+            return;
+        }
+
+        try {
+            CompactionResult result = repository.compact();
+            lastCompaction = result;
+            compactions.incrementAndGet();
+            logger.info(COMPACTED, result.reclaimedBytes(), result.elapsed().toMillis());
+        } catch (IOException e) {
+            logger.error(COMPACTION_FAIL, e);
+        }
+    }
+
+    @Override
+    public long getCompactions() {
+        return compactions.get();
+    }
+
+    @Override
+    public long getLastReclaimedBytes() {
+        return lastCompaction.reclaimedBytes();
+    }
+
+    @Override
+    public long getLastElapsedMillis() {
+        return lastCompaction.elapsed().toMillis();
+    }
+
+    @Override
+    public double getGarbageRatio() {
+        return repository.garbageRatio();
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            logger.error(JMX_UNREGISTER_FAILED, e);
+        }
+    }
+
+    private void register() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+
+            try {
+                server.registerMBean(this, name);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(name);
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            logger.error(JMX_REGISTER_FAILED, e);
+        }
+    }
+}
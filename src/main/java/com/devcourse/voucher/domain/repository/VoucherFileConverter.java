@@ -0,0 +1,58 @@
+package com.devcourse.voucher.domain.repository;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+
+public final class VoucherFileConverter {
+    private static final String USAGE = "Usage : VoucherFileConverter <text file> <binary file>";
+    private static final String CONVERTED = "Converted %d records into %s%n";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private VoucherFileConverter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        Path target = Path.of(args[1]);
+        long converted = convert(Path.of(args[0]), target);
+        System.out.printf(CONVERTED, converted, target);
+    }
+
+    static long convert(Path text, Path binary) throws IOException {
+        VoucherCodec source = VoucherFileFormat.TEXT.codec();
+        VoucherCodec target = VoucherFileFormat.BINARY.codec();
+        long converted = 0;
+
+        try (FileChannel in = FileChannel.open(text, READ);
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(binary, CREATE_NEW), BUFFER_SIZE)) {
+            ByteBuffer file = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            out.write(target.header());
+
+            int offset = 0;
+            int length;
+
+            while ((length = source.recordLength(file, offset)) > 0) {
+                byte[] record = source.isTombstone(file, offset, length)
+                        ? target.encodeTombstone(source.readId(file, offset, length))
+                        : target.encode(source.decode(file, offset, length));
+                out.write(record);
+                offset += length;
+                converted++;
+            }
+        }
+
+        return converted;
+    }
+}
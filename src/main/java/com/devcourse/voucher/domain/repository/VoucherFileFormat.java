@@ -0,0 +1,17 @@
+package com.devcourse.voucher.domain.repository;
+
+enum VoucherFileFormat {
+    TEXT(new TextVoucherCodec()),
+    BINARY(new BinaryVoucherCodec()),
+    ;
+
+    private final VoucherCodec codec;
+
+    VoucherFileFormat(VoucherCodec codec) {
+        this.codec = codec;
+    }
+
+    VoucherCodec codec() {
+        return codec;
+    }
+}
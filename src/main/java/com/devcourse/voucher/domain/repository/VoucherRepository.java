@@ -3,19 +3,36 @@ package com.devcourse.voucher.domain.repository;
 import com.devcourse.voucher.domain.Voucher;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface VoucherRepository {
     Voucher save(Voucher voucher);
 
+    void saveAll(Collection<Voucher> vouchers);
+
     List<Voucher> findAll();
 
+    Stream<Voucher> streamAll();
+
+    List<Voucher> findAllAfter(UUID lastId, int size);
+
+    List<Voucher> findAllBy(Voucher.Status status, Voucher.Type type, LocalDateTime from, LocalDateTime to);
+
     Optional<Voucher> findById(UUID id);
 
+    List<Voucher> findAllByIds(Collection<UUID> ids);
+
     void deleteById(UUID id);
 
     void updateStatus(UUID id, String status);
+
+    int expireAll(Collection<UUID> ids);
+
+    boolean redeem(UUID id);
 }
@@ -0,0 +1,18 @@
+-- Converts VARCHAR(50) UUID keys to BINARY(16) in place (MySQL 8).
+-- Run once, then start the application with jdbc.id-type=BINARY.
+
+ALTER TABLE users ADD COLUMN id_binary BINARY(16) NULL;
+UPDATE users SET id_binary = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE users DROP PRIMARY KEY;
+ALTER TABLE users DROP COLUMN id;
+ALTER TABLE users RENAME COLUMN id_binary TO id;
+ALTER TABLE users MODIFY id BINARY(16) NOT NULL FIRST;
+ALTER TABLE users ADD PRIMARY KEY (id);
+
+ALTER TABLE vouchers ADD COLUMN id_binary BINARY(16) NULL;
+UPDATE vouchers SET id_binary = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE vouchers DROP PRIMARY KEY;
+ALTER TABLE vouchers DROP COLUMN id;
+ALTER TABLE vouchers RENAME COLUMN id_binary TO id;
+ALTER TABLE vouchers MODIFY id BINARY(16) NOT NULL FIRST;
+ALTER TABLE vouchers ADD PRIMARY KEY (id);
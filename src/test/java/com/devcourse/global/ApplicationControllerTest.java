@@ -0,0 +1,139 @@
+package com.devcourse.global;
+
+import com.devcourse.global.console.Console;
+import com.devcourse.global.metrics.LatencyRegistry;
+import com.devcourse.user.application.UserService;
+import com.devcourse.user.repository.BlackListStats;
+import com.devcourse.user.repository.UserCacheStats;
+import com.devcourse.voucher.application.ExpirationMetrics;
+import com.devcourse.voucher.application.VoucherService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(SpringExtension.class)
+class ApplicationControllerTest {
+    private static final String CREATE = "voucher\nfixed\n1000\n2999-01-01\n";
+    private static final String LIST = "voucherlist\n";
+    private static final String CREATED = ":: Voucher Created ::";
+    private static final int CONCURRENCY = 4;
+
+    @InjectMocks
+    private ApplicationController applicationController;
+
+    @Mock
+    private VoucherService voucherService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private LatencyRegistry latencyRegistry;
+
+    private final StringWriter output = new StringWriter();
+
+    @Test
+    @DisplayName("조회 명령은 앞의 명령이 모두 끝난 뒤에 실행되고 뒤의 명령은 조회가 끝난 뒤에 실행되어야 한다.")
+    void queryBarrierTest() {
+        // given
+        AtomicInteger created = new AtomicInteger();
+        willAnswer(invocation -> {
+            Thread.sleep(20);
+            return created.incrementAndGet();
+        }).given(voucherService).create(anyInt(), any(), any());
+        willAnswer(invocation -> {
+            int before = created.get();
+            Thread.sleep(50);
+            Consumer<CharSequence> lines = invocation.getArgument(1);
+            lines.accept("listed " + before + "/" + created.get());
+            return null;
+        }).given(voucherService).renderAllByPage(anyInt(), any());
+
+        // when
+        applicationController.runBatch(batch(CREATE.repeat(3) + LIST + CREATE.repeat(3) + LIST), CONCURRENCY);
+
+        // then
+        String printed = output.toString();
+        assertThat(printed).containsSubsequence("listed 3/3", "listed 6/6");
+        assertThat(printed.split(CREATED, -1)).hasSize(7);
+    }
+
+    @Test
+    @DisplayName("동시에 실행되는 명령의 수는 지정한 동시성을 넘지 않아야 한다.")
+    void concurrencyCapTest() {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return null;
+        }).given(voucherService).create(anyInt(), any(), any());
+
+        // when
+        applicationController.runBatch(batch(CREATE.repeat(16)), CONCURRENCY);
+
+        // then
+        assertThat(maxRunning.get()).isBetween(2, CONCURRENCY);
+        assertThat(output.toString().split(CREATED, -1)).hasSize(17);
+    }
+
+    @Test
+    @DisplayName("동시에 실행한 명령이 실패하면 배치는 같은 예외로 실패해야 한다.")
+    void failurePropagationTest() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        willAnswer(invocation -> {
+            if (calls.incrementAndGet() == 3) {
+                throw new IllegalStateException("create failed");
+            }
+            return null;
+        }).given(voucherService).create(anyInt(), any(), any());
+
+        // when, then
+        assertThatThrownBy(() -> applicationController.runBatch(batch(CREATE.repeat(8)), CONCURRENCY))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("create failed");
+    }
+
+    @Test
+    @DisplayName("통계 명령은 만료 대기열의 크기와 지연, 만료한 바우처 수를 출력해야 한다.")
+    void statsTest() {
+        // given
+        given(latencyRegistry.profile()).willReturn("test");
+        given(latencyRegistry.stats()).willReturn(List.of());
+        given(userService.cacheStats()).willReturn(new UserCacheStats(0, 0, 0, 0, 0));
+        given(userService.blackListStats()).willReturn(new BlackListStats(0, 0, 0.01, 0, 0, 0));
+        given(voucherService.expirationMetrics()).willReturn(new ExpirationMetrics(3, 120, 7));
+
+        // when
+        applicationController.runBatch(batch("stats\n"), 1);
+
+        // then
+        assertThat(output.toString()).containsSubsequence(":: Voucher Expiration ::", "backlog=3 lag-ms=120 expired=7");
+    }
+
+    private Console batch(String script) {
+        return Console.batch(new BufferedReader(new StringReader(script)), new PrintWriter(new BufferedWriter(output), false));
+    }
+}
@@ -0,0 +1,73 @@
+package com.devcourse.global.console;
+
+import com.devcourse.global.Command;
+import com.devcourse.global.dto.CreateVoucherRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsoleTest {
+    private final StringWriter output = new StringWriter();
+
+    @Test
+    @DisplayName("배치 모드는 빈 줄을 건너뛰고 입력이 끝나면 EXIT를 반환해야 한다.")
+    void readCommandTest() {
+        // given
+        Console console = batch("\nvoucher\nfixed\n1000\n2999-01-01\n\n  userlist  \n");
+
+        // when
+        Command first = console.readCommand();
+        CreateVoucherRequest request = console.readCreationRequest();
+        Command second = console.readCommand();
+        Command last = console.readCommand();
+
+        // then
+        assertThat(first).isEqualTo(Command.VOUCHER);
+        assertThat(request.type()).isEqualTo(FIXED);
+        assertThat(request.discount()).isEqualTo(1000);
+        assertThat(second).isEqualTo(Command.USERLIST);
+        assertThat(last).isEqualTo(Command.EXIT);
+        assertThat(output.toString()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("명령어 입력 도중 입력이 끝나면 예외가 발생해야 한다.")
+    void readUnexpectedEndTest() {
+        // given
+        Console console = batch("voucher\nfixed\n");
+        console.readCommand();
+
+        // when, then
+        assertThatThrownBy(console::readCreationRequest)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("배치 모드의 출력은 flush 전까지 버퍼에 남아 있어야 한다.")
+    void flushTest() {
+        // given
+        Console console = batch("");
+
+        // when
+        console.print("first");
+        String beforeFlush = output.toString();
+        console.flush();
+
+        // then
+        assertThat(beforeFlush).isEmpty();
+        assertThat(output.toString()).isEqualTo("first" + System.lineSeparator());
+    }
+
+    private Console batch(String script) {
+        return Console.batch(new BufferedReader(new StringReader(script)), new PrintWriter(new BufferedWriter(output), false));
+    }
+}
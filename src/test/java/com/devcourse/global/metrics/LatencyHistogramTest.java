@@ -0,0 +1,107 @@
+package com.devcourse.global.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+    @Test
+    @DisplayName("백분위 값은 실제 값과 상대 오차 1/32 이내여야 한다.")
+    void percentileTest() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        // when
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        // then
+        assertThat(snapshot.count()).isEqualTo(100_000);
+        assertThat(snapshot.maxNanos()).isEqualTo(100_000_000);
+        assertThat(snapshot.meanNanos()).isCloseTo(50_000_500.0, within(0.1));
+        assertThat(snapshot.p50Nanos()).isBetween(50_000_000L, 50_000_000L + 50_000_000L / 32);
+        assertThat(snapshot.p99Nanos()).isBetween(99_000_000L, 99_000_000L + 99_000_000L / 32);
+        assertThat(snapshot.p999Nanos()).isBetween(99_900_000L, 100_000_000L);
+    }
+
+    @Test
+    @DisplayName("구간의 최댓값은 다시 같은 구간에 속해야 한다.")
+    void bucketBoundaryTest() {
+        // given
+        long[] values = {0, 1, 63, 64, 65, 127, 128, 1_000, 1_000_000_007, Long.MAX_VALUE};
+
+        for (long value : values) {
+            // when
+            int index = LatencyHistogram.indexOf(value);
+            long highest = LatencyHistogram.highestValueAt(index);
+
+            // then
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat(LatencyHistogram.indexOf(highest)).isEqualTo(index);
+        }
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 빈 스냅샷을 반환해야 한다.")
+    void emptyTest() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        // then
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.p999Nanos()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 누락되지 않아야 한다.")
+    void concurrentRecordTest() throws InterruptedException {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threadCount = 8;
+        int recordCount = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            long value = i + 1;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                for (int j = 0; j < recordCount; j++) {
+                    histogram.record(value);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+
+        // when
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo((long) threadCount * recordCount);
+        assertThat(snapshot.maxNanos()).isEqualTo(threadCount);
+        assertThat(snapshot.meanNanos()).isCloseTo(4.5, within(1e-9));
+    }
+}
@@ -0,0 +1,106 @@
+package com.devcourse.global.metrics;
+
+import com.devcourse.global.sql.QueryCache;
+import com.devcourse.global.sql.QueryShape;
+import com.devcourse.user.User;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServerFactory;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryEventTest {
+    private static final String REPOSITORY_EVENT = "com.devcourse.Repository";
+
+    private final LatencyRegistry registry = new LatencyRegistry("test", MBeanServerFactory.newMBeanServer());
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("샘플 설정은 레포지토리 이벤트를 활성화해야 한다.")
+    void configurationTest() throws Exception {
+        // given
+        Configuration configuration = sampleConfiguration();
+
+        // when
+        String enabled = configuration.getSettings().get(REPOSITORY_EVENT + "#enabled");
+
+        // then
+        assertThat(enabled).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("레포지토리 호출은 프로필, 행 수, SQL과 함께 기록되어야 한다.")
+    void recordRepositoryEventTest() throws Exception {
+        // given
+        RepositoryTimingPostProcessor postProcessor = new RepositoryTimingPostProcessor(registry, true);
+        SelectingUserRepository repository = (SelectingUserRepository) postProcessor
+                .postProcessAfterInitialization(new SelectingUserRepository(), "userRepository");
+        Path file = directory.resolve("repository.jfr");
+
+        // when
+        try (Recording recording = new Recording(sampleConfiguration())) {
+            recording.enable(RepositoryEvent.class).withoutThreshold();
+            recording.start();
+            repository.findAll();
+            repository.findById(UUID.randomUUID());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(REPOSITORY_EVENT))
+                .sorted(Comparator.comparing(event -> event.getString("operation")))
+                .toList();
+
+        assertThat(events).hasSize(2);
+        assertThat(events).allSatisfy(event -> assertThat(event.getString("profile")).isEqualTo("test"));
+
+        RecordedEvent findAll = events.get(0);
+        assertThat(findAll.getString("operation")).isEqualTo("SelectingUserRepository.findAll");
+        assertThat(findAll.getLong("rows")).isEqualTo(2);
+        assertThat(findAll.getString("sql")).startsWith("SELECT").contains("user");
+
+        RecordedEvent findById = events.get(1);
+        assertThat(findById.getString("operation")).isEqualTo("SelectingUserRepository.findById");
+        assertThat(findById.getLong("rows")).isZero();
+        assertThat(findById.getString("sql")).isEmpty();
+    }
+
+    private Configuration sampleConfiguration() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                Objects.requireNonNull(getClass().getResourceAsStream("/jfr/voucher.jfc")), UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+
+    static class SelectingUserRepository extends RepositoryTimingPostProcessorTest.StubUserRepository {
+        @Override
+        public List<User> findAll() {
+            QueryCache.get(QueryShape.select(User.class));
+            return List.of(new User(UUID.randomUUID(), "a"), new User(UUID.randomUUID(), "b"));
+        }
+    }
+}
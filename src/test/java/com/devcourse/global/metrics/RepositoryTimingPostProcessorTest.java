@@ -0,0 +1,120 @@
+package com.devcourse.global.metrics;
+
+import com.devcourse.user.User;
+import com.devcourse.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryTimingPostProcessorTest {
+    private final MBeanServer server = MBeanServerFactory.newMBeanServer();
+    private final LatencyRegistry registry = new LatencyRegistry("test", server);
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("레포지토리 메서드 호출은 연산별 히스토그램에 기록되어야 한다.")
+    void recordRepositoryCallTest() throws Exception {
+        // given
+        RepositoryTimingPostProcessor postProcessor = new RepositoryTimingPostProcessor(registry, true);
+        UserRepository repository = (UserRepository) postProcessor.postProcessAfterInitialization(new StubUserRepository(), "userRepository");
+
+        // when
+        repository.findById(UUID.randomUUID());
+        repository.findById(UUID.randomUUID());
+        repository.findAll();
+        repository.toString();
+
+        // then
+        assertThat(registry.stats())
+                .extracting(OperationStats::operation)
+                .containsExactly("StubUserRepository.findAll", "StubUserRepository.findById");
+        assertThat(registry.stats().get(1).latency().count()).isEqualTo(2);
+
+        ObjectName name = new ObjectName("com.devcourse:type=Latency,profile=\"test\",operation=\"StubUserRepository.findById\"");
+        assertThat(server.getAttribute(name, "Count")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("비활성화되면 빈을 그대로 반환해야 한다.")
+    void disabledTest() {
+        // given
+        RepositoryTimingPostProcessor postProcessor = new RepositoryTimingPostProcessor(registry, false);
+        StubUserRepository bean = new StubUserRepository();
+
+        // when
+        Object processed = postProcessor.postProcessAfterInitialization(bean, "userRepository");
+
+        // then
+        assertThat(processed).isSameAs(bean);
+    }
+
+    @Test
+    @DisplayName("레포지토리가 아닌 빈은 감싸지 않아야 한다.")
+    void ignoreOtherBeanTest() {
+        // given
+        RepositoryTimingPostProcessor postProcessor = new RepositoryTimingPostProcessor(registry, true);
+        Object bean = new Object();
+
+        // when
+        Object processed = postProcessor.postProcessAfterInitialization(bean, "other");
+
+        // then
+        assertThat(processed).isSameAs(bean);
+        assertThat(registry.stats()).isEmpty();
+    }
+
+    static class StubUserRepository implements UserRepository {
+        @Override
+        public UUID save(String name) {
+            return UUID.randomUUID();
+        }
+
+        @Override
+        public List<UUID> saveAll(Collection<String> names) {
+            return List.of();
+        }
+
+        @Override
+        public List<User> findAll() {
+            return List.of();
+        }
+
+        @Override
+        public Stream<User> streamAll() {
+            return Stream.empty();
+        }
+
+        @Override
+        public Optional<User> findById(UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<User> findAllByIds(Collection<UUID> ids) {
+            return List.of();
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+        }
+
+        @Override
+        public void update(UUID id, String name) {
+        }
+    }
+}
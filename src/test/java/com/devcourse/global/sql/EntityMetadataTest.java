@@ -0,0 +1,46 @@
+package com.devcourse.global.sql;
+
+import com.devcourse.user.User;
+import com.devcourse.voucher.domain.Voucher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityMetadataTest {
+    @Test
+    @DisplayName("생성된 메타데이터는 Transient 필드를 제외한 컬럼을 선언 순서대로 가져야 한다.")
+    void columnsTest() {
+        // given
+        EntityMetadata<Voucher> voucher = EntityMetadata.of(Voucher.class);
+        EntityMetadata<User> user = EntityMetadata.of(User.class);
+
+        // when, then
+        assertThat(voucher.table()).isEqualTo("vouchers");
+        assertThat(voucher.columns()).containsExactly("id", "discount", "expired_at", "type", "status");
+        assertThat(user.table()).isEqualTo("users");
+        assertThat(user.columns()).containsExactly("id", "name");
+    }
+
+    @Test
+    @DisplayName("SELECT 쿼리는 생성된 메타데이터의 컬럼 순서를 따라야 한다.")
+    void selectColumnsTest() {
+        // given
+        QueryShape shape = QueryShape.select(Voucher.class);
+
+        // when
+        CompiledQuery compiled = QueryCache.get(shape);
+
+        // then
+        assertThat(compiled.columns()).isEqualTo(EntityMetadata.of(Voucher.class).columns());
+    }
+
+    @Test
+    @DisplayName("메타데이터가 생성되지 않은 클래스를 조회하면 예외가 발생해야 한다.")
+    void missingMetadataTest() {
+        // when, then
+        assertThatThrownBy(() -> EntityMetadata.of(String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
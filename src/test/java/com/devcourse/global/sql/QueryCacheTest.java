@@ -0,0 +1,117 @@
+package com.devcourse.global.sql;
+
+import com.devcourse.user.User;
+import com.devcourse.voucher.domain.Voucher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCacheTest {
+    private final Where byId = Where.builder()
+            .condition("id")
+            .build();
+
+    @Test
+    @DisplayName("캐시된 쿼리는 빌더로 만든 쿼리와 동일해야 한다.")
+    void compiledQueryTest() {
+        // given
+        Select select = Select.builder()
+                .select(Voucher.class)
+                .where(byId)
+                .build();
+
+        // when
+        CompiledQuery compiled = QueryCache.get(QueryShape.select(Voucher.class).where(byId));
+
+        // then
+        assertThat(compiled.sql()).isEqualTo(select.getQuery());
+        assertThat(compiled.columns()).containsExactly("id", "discount", "expired_at", "type", "status");
+    }
+
+    @Test
+    @DisplayName("같은 모양의 쿼리를 다시 요청하면 캐시에서 같은 객체를 반환하고 히트 수가 증가해야 한다.")
+    void hitCountTest() {
+        // given
+        QueryShape shape = QueryShape.update(User.class, "name").where(byId);
+        CompiledQuery first = QueryCache.get(shape);
+        long hits = QueryCache.hitCount();
+
+        // when
+        CompiledQuery second = QueryCache.get(QueryShape.update(User.class, "name").where(byId));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(QueryCache.hitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("조건이 다르면 다른 쿼리로 캐시되어야 한다.")
+    void differentShapeTest() {
+        // given
+        Where limited = Where.builder()
+                .condition("id")
+                .limit(1)
+                .build();
+
+        // when
+        CompiledQuery plain = QueryCache.get(QueryShape.delete(User.class).where(byId));
+        CompiledQuery withLimit = QueryCache.get(QueryShape.delete(User.class).where(limited));
+
+        // then
+        assertThat(plain.sql()).isEqualTo("DELETE FROM users WHERE id = ?");
+        assertThat(withLimit.sql()).isEqualTo("DELETE FROM users WHERE id = ? LIMIT 1");
+    }
+
+    @Test
+    @DisplayName("AND와 IN 조건은 개수만큼 자리표시자를 가진 쿼리로 만들어져야 한다.")
+    void inConditionTest() {
+        // given
+        Where expirable = Where.builder()
+                .condition("status")
+                .andIn("id", 3)
+                .build();
+
+        // when
+        CompiledQuery compiled = QueryCache.get(QueryShape.update(Voucher.class, "status").where(expirable));
+
+        // then
+        assertThat(compiled.sql()).isEqualTo("UPDATE vouchers SET status = ? WHERE status = ? AND id IN (?, ?, ?)");
+    }
+
+    @Test
+    @DisplayName("OR 조건은 괄호로 묶여 AND 조건과 함께 만들어져야 한다.")
+    void orConditionTest() {
+        // given
+        Where where = Where.builder()
+                .condition("status")
+                .or("type")
+                .andBetween("expired_at")
+                .orLessThan("discount")
+                .build();
+
+        // when
+        CompiledQuery compiled = QueryCache.get(QueryShape.delete(Voucher.class).where(where));
+
+        // then
+        assertThat(compiled.sql()).isEqualTo("DELETE FROM vouchers WHERE (status = ? OR type = ?) AND (expired_at BETWEEN ? AND ? OR discount < ?)");
+    }
+
+    @Test
+    @DisplayName("IN 조건의 크기를 버킷으로 맞추면 같은 쿼리가 재사용되어야 한다.")
+    void bucketTest() {
+        // given
+        CompiledQuery three = QueryCache.get(QueryShape.select(User.class).where(
+                Where.builder().in("id", Where.bucket(3)).build()));
+
+        // when
+        CompiledQuery four = QueryCache.get(QueryShape.select(User.class).where(
+                Where.builder().in("id", Where.bucket(4)).build()));
+
+        // then
+        assertThat(four).isSameAs(three);
+        assertThat(four.sql()).isEqualTo("SELECT id, name FROM users WHERE id IN (?, ?, ?, ?)");
+        assertThat(Where.bucket(1)).isEqualTo(1);
+        assertThat(Where.bucket(1000)).isEqualTo(1024);
+    }
+}
@@ -0,0 +1,51 @@
+package com.devcourse.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextAppenderTest {
+    @RepeatedTest(10)
+    @DisplayName("UUID는 toString과 같은 문자열로 추가되어야 한다.")
+    void appendUuidTest() {
+        // given
+        UUID id = UUID.randomUUID();
+        StringBuilder builder = new StringBuilder();
+
+        // when
+        TextAppender.appendUuid(builder, id);
+
+        // then
+        assertThat(builder.toString()).isEqualTo(id.toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2030-01-01T00:00",
+            "2030-12-31T23:59:59",
+            "2030-06-15T08:05:01.120",
+            "2030-06-15T08:05:00.000120",
+            "2030-06-15T08:05:00.000000120",
+            "0999-01-01T00:00",
+            "-1000-01-01T00:00",
+            "+10000-01-01T00:00"
+    })
+    @DisplayName("LocalDateTime은 toString과 같은 문자열로 추가되어야 한다.")
+    void appendDateTimeTest(String text) {
+        // given
+        LocalDateTime dateTime = LocalDateTime.parse(text);
+        StringBuilder builder = new StringBuilder();
+
+        // when
+        TextAppender.appendDateTime(builder, dateTime);
+
+        // then
+        assertThat(builder.toString()).isEqualTo(dateTime.toString());
+    }
+}
@@ -0,0 +1,52 @@
+package com.devcourse.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidConverterTest {
+    @RepeatedTest(10)
+    @DisplayName("바이트로 변환한 UUID를 다시 변환하면 원래 UUID와 같아야 한다.")
+    void roundTripTest() {
+        // given
+        UUID id = UUID.randomUUID();
+
+        // when
+        byte[] bytes = UuidConverter.toBytes(id);
+
+        // then
+        assertThat(bytes).hasSize(16);
+        assertThat(UuidConverter.toUuid(bytes)).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("바이트 순서는 UUID 문자열의 16진수 순서와 같아야 한다.")
+    void byteOrderTest() {
+        // given
+        UUID id = UUID.fromString("00112233-4455-6677-8899-aabbccddeeff");
+
+        // when
+        byte[] bytes = UuidConverter.toBytes(id);
+
+        // then
+        assertThat(bytes[0]).isEqualTo((byte) 0x00);
+        assertThat(bytes[7]).isEqualTo((byte) 0x77);
+        assertThat(bytes[15]).isEqualTo((byte) 0xff);
+    }
+
+    @Test
+    @DisplayName("16바이트가 아니면 IllegalArgumentException을 던져야 한다.")
+    void invalidLengthTest() {
+        // given
+        byte[] bytes = new byte[15];
+
+        // when, then
+        assertThatThrownBy(() -> UuidConverter.toUuid(bytes))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.devcourse.user.repository;
+
+import com.devcourse.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@ContextConfiguration(classes = JdbcUserRepository.class)
+@TestPropertySource(properties = {
+        "jdbc.id-type=BINARY",
+        "spring.sql.init.schema-locations=classpath:schema-binary.sql"
+})
+class BinaryIdJdbcUserRepositoryTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("BINARY id로 저장한 유저는 id로 조회되고 수정과 삭제가 반영되어야 한다.")
+    void findByIdTest() {
+        // given
+        UUID id = userRepository.save("hejow");
+
+        // when
+        userRepository.update(id, "hejow2");
+
+        // then
+        assertThat(userRepository.findById(id)).map(User::name).hasValue("hejow2");
+
+        userRepository.deleteById(id);
+        assertThat(userRepository.findById(id)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("IN 자리를 채우고 남는 자리는 마지막 id로 채워도 요청한 유저만 한번씩 조회해야 한다.")
+    void bucketPaddingTest() {
+        // given
+        List<UUID> saved = userRepository.saveAll(List.of("a", "b", "c", "d", "e"));
+        List<UUID> requested = List.of(saved.get(0), saved.get(3), UUID.randomUUID());
+
+        // when
+        List<User> found = userRepository.findAllByIds(requested);
+
+        // then
+        assertThat(found).extracting(User::id).containsExactlyInAnyOrder(saved.get(0), saved.get(3));
+    }
+}
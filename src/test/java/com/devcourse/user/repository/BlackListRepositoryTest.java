@@ -0,0 +1,162 @@
+package com.devcourse.user.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlackListRepositoryTest {
+    private static final String HEADER = "id, name\n";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @TempDir
+    private Path directory;
+
+    private Path csv;
+    private final UUID black = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        csv = directory.resolve("blackList.csv");
+        Files.writeString(csv, HEADER + black + ", 문희조\n");
+        Files.setLastModifiedTime(csv, FileTime.from(Instant.parse("2023-01-01T00:00:00Z")));
+    }
+
+    @Test
+    @DisplayName("블랙리스트에 있는 id만 블랙리스트로 판별되어야 한다.")
+    void isBlacklistedTest() {
+        // given
+        BlackListRepository blackListRepository = new BlackListRepository(csv.toString(), FALSE_POSITIVE_RATE);
+
+        // when, then
+        assertThat(blackListRepository.isBlacklisted(black)).isTrue();
+        assertThat(blackListRepository.isBlacklisted(UUID.randomUUID())).isFalse();
+        assertThat(blackListRepository.findAllBlack()).containsExactly("id | name", black + " | 문희조");
+    }
+
+    @Test
+    @DisplayName("파일의 수정 시각이 바뀌면 새 블랙리스트로 교체되어야 한다.")
+    void reloadTest() throws IOException {
+        // given
+        BlackListRepository blackListRepository = new BlackListRepository(csv.toString(), FALSE_POSITIVE_RATE);
+        UUID added = UUID.randomUUID();
+        Files.writeString(csv, HEADER + added + ", 조희조\n");
+        Files.setLastModifiedTime(csv, FileTime.from(Instant.parse("2023-01-02T00:00:00Z")));
+
+        // when
+        blackListRepository.reloadIfModified();
+
+        // then
+        assertThat(blackListRepository.isBlacklisted(added)).isTrue();
+        assertThat(blackListRepository.isBlacklisted(black)).isFalse();
+        assertThat(blackListRepository.findAllBlack()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("수정 시각이 그대로면 다시 읽지 않고 기존 목록을 유지해야 한다.")
+    void notModifiedTest() throws IOException {
+        // given
+        BlackListRepository blackListRepository = new BlackListRepository(csv.toString(), FALSE_POSITIVE_RATE);
+        FileTime modifiedAt = Files.getLastModifiedTime(csv);
+        Files.writeString(csv, HEADER);
+        Files.setLastModifiedTime(csv, modifiedAt);
+
+        // when
+        blackListRepository.reloadIfModified();
+
+        // then
+        assertThat(blackListRepository.isBlacklisted(black)).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터와 정렬된 id 파일을 저장하고 다시 열 때 재사용해야 한다.")
+    void persistedIndexTest() throws IOException {
+        // given
+        new BlackListRepository(csv.toString(), FALSE_POSITIVE_RATE);
+        Path filter = directory.resolve("blackList.csv.bloom");
+        Path ids = directory.resolve("blackList.csv.ids");
+        FileTime builtAt = Files.getLastModifiedTime(filter);
+
+        // when
+        BlackListRepository reopened = new BlackListRepository(csv.toString(), FALSE_POSITIVE_RATE);
+
+        // then
+        assertThat(Files.size(ids)).isEqualTo(Long.BYTES * 2);
+        assertThat(Files.getLastModifiedTime(filter)).isEqualTo(builtAt);
+        assertThat(reopened.isBlacklisted(black)).isTrue();
+    }
+
+    @Test
+    @DisplayName("많은 id에서도 블랙리스트는 모두 찾고 통계는 조회 수와 확정 수를 보고해야 한다.")
+    void statsTest() throws IOException {
+        // given
+        List<UUID> blacks = IntStream.range(0, 10_000)
+                .mapToObj(i -> UUID.randomUUID())
+                .toList();
+        StringBuilder lines = new StringBuilder(HEADER);
+        blacks.forEach(id -> lines.append(id).append(", name\n"));
+        Files.writeString(csv, lines);
+        BlackListRepository blackListRepository = new BlackListRepository(csv.toString(), FALSE_POSITIVE_RATE);
+
+        // when
+        boolean allFound = blacks.stream().allMatch(blackListRepository::isBlacklisted);
+        IntStream.range(0, 10_000).forEach(i -> blackListRepository.isBlacklisted(UUID.randomUUID()));
+
+        // then
+        BlackListStats stats = blackListRepository.stats();
+        assertThat(allFound).isTrue();
+        assertThat(stats.ids()).isEqualTo(blacks.size());
+        assertThat(stats.checks()).isEqualTo(20_000);
+        assertThat(stats.confirmed()).isEqualTo(blacks.size());
+        assertThat(stats.observedFalsePositiveRate()).isLessThan(FALSE_POSITIVE_RATE * 3);
+    }
+
+    @Test
+    @DisplayName("헤더 뒤가 잘린 필터 파일은 다시 만들어야 한다.")
+    void truncatedFilterTest() throws IOException {
+        // given
+        new BlackListRepository(csv.toString(), FALSE_POSITIVE_RATE);
+        Path filter = directory.resolve("blackList.csv.bloom");
+        byte[] persisted = Files.readAllBytes(filter);
+        Files.write(filter, Arrays.copyOf(persisted, persisted.length - Long.BYTES * 2));
+
+        // when
+        BlackListRepository reopened = new BlackListRepository(csv.toString(), FALSE_POSITIVE_RATE);
+
+        // then
+        assertThat(reopened.isBlacklisted(black)).isTrue();
+        assertThat(Files.size(filter)).isEqualTo(persisted.length);
+    }
+
+    @Test
+    @DisplayName("필터 크기가 파일 크기와 맞지 않으면 다시 만들어야 한다.")
+    void corruptFilterLengthTest() throws IOException {
+        // given
+        new BlackListRepository(csv.toString(), FALSE_POSITIVE_RATE);
+        Path filter = directory.resolve("blackList.csv.bloom");
+        byte[] persisted = Files.readAllBytes(filter);
+        byte[] corrupted = persisted.clone();
+        ByteBuffer.wrap(corrupted).putInt(Integer.BYTES * 2 + Long.BYTES + Double.BYTES + Integer.BYTES, Integer.MAX_VALUE);
+        Files.write(filter, corrupted);
+
+        // when
+        BlackListRepository reopened = new BlackListRepository(csv.toString(), FALSE_POSITIVE_RATE);
+
+        // then
+        assertThat(reopened.isBlacklisted(black)).isTrue();
+        assertThat(Files.readAllBytes(filter)).isEqualTo(persisted);
+    }
+}
@@ -0,0 +1,228 @@
+package com.devcourse.user.repository;
+
+import com.devcourse.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingUserRepositoryTest {
+    private static final int MAXIMUM_SIZE = 2;
+    private static final long TTL_MILLIS = 1000;
+
+    private final AtomicLong now = new AtomicLong();
+    private CountingUserRepository delegate;
+    private CachingUserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingUserRepository();
+        userRepository = new CachingUserRepository(delegate, MAXIMUM_SIZE, TTL_MILLIS, now::get);
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 유저는 캐시에서 조회되어야 한다.")
+    void hitTest() {
+        // given
+        UUID id = userRepository.save("문희조");
+
+        // when
+        userRepository.findById(id);
+        Optional<User> user = userRepository.findById(id);
+
+        // then
+        assertThat(user).map(User::name).hasValue("문희조");
+        assertThat(delegate.lookups.get()).isEqualTo(1);
+        assertThat(userRepository.stats().hits()).isEqualTo(1);
+        assertThat(userRepository.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 유저는 다시 조회되어야 한다.")
+    void ttlTest() {
+        // given
+        UUID id = userRepository.save("문희조");
+        userRepository.findById(id);
+
+        // when
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MILLIS));
+        userRepository.findById(id);
+
+        // then
+        assertThat(delegate.lookups.get()).isEqualTo(2);
+        assertThat(userRepository.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 유저가 제거되어야 한다.")
+    void evictionTest() {
+        // given
+        UUID first = userRepository.save("first");
+        UUID second = userRepository.save("second");
+        UUID third = userRepository.save("third");
+        userRepository.findById(first);
+        userRepository.findById(second);
+        userRepository.findById(first);
+
+        // when
+        userRepository.findById(third);
+        userRepository.findById(first);
+        userRepository.findById(second);
+
+        // then
+        assertThat(delegate.lookups.get()).isEqualTo(4);
+        assertThat(userRepository.stats().evictions()).isEqualTo(2);
+        assertThat(userRepository.stats().size()).isEqualTo(MAXIMUM_SIZE);
+    }
+
+    @Test
+    @DisplayName("수정하거나 삭제한 유저는 캐시에서 제거되어야 한다.")
+    void invalidateTest() {
+        // given
+        UUID updated = userRepository.save("before");
+        UUID deleted = userRepository.save("deleted");
+        userRepository.findById(updated);
+        userRepository.findById(deleted);
+
+        // when
+        userRepository.update(updated, "after");
+        userRepository.deleteById(deleted);
+
+        // then
+        assertThat(userRepository.findById(updated)).map(User::name).hasValue("after");
+        assertThat(userRepository.findById(deleted)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동시에 캐시에 없는 같은 유저를 조회하면 한 번만 조회되어야 한다.")
+    void stampedeTest() throws Exception {
+        // given
+        UUID id = userRepository.save("문희조");
+        int threads = 8;
+        delegate.gate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Optional<User>>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> userRepository.findById(id)));
+        }
+
+        while (userRepository.stats().misses() < threads) {
+            Thread.onSpinWait();
+        }
+
+        delegate.gate.countDown();
+
+        // then
+        for (Future<Optional<User>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).map(User::name).hasValue("문희조");
+        }
+
+        executor.shutdown();
+        assertThat(delegate.lookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 id로 조회하면 캐시에 없는 유저만 한 번에 조회되어야 한다.")
+    void findAllByIdsTest() {
+        // given
+        UUID cached = userRepository.save("cached");
+        UUID missing = userRepository.save("missing");
+        userRepository.findById(cached);
+
+        // when
+        List<User> users = userRepository.findAllByIds(List.of(cached, missing, UUID.randomUUID()));
+        userRepository.findById(missing);
+
+        // then
+        assertThat(users).extracting(User::name).containsExactlyInAnyOrder("cached", "missing");
+        assertThat(delegate.lookups.get()).isEqualTo(2);
+        assertThat(userRepository.stats().hits()).isEqualTo(2);
+    }
+
+    private static class CountingUserRepository implements UserRepository {
+        private final Map<UUID, User> users = new ConcurrentHashMap<>();
+        private final AtomicInteger lookups = new AtomicInteger();
+        private volatile CountDownLatch gate;
+
+        @Override
+        public UUID save(String name) {
+            UUID id = UUID.randomUUID();
+            users.put(id, new User(id, name));
+            return id;
+        }
+
+        @Override
+        public List<UUID> saveAll(Collection<String> names) {
+            return names.stream().map(this::save).toList();
+        }
+
+        @Override
+        public List<User> findAll() {
+            return List.copyOf(users.values());
+        }
+
+        @Override
+        public Stream<User> streamAll() {
+            return users.values().stream();
+        }
+
+        @Override
+        public Optional<User> findById(UUID id) {
+            lookups.incrementAndGet();
+            awaitGate();
+            return Optional.ofNullable(users.get(id));
+        }
+
+        @Override
+        public List<User> findAllByIds(Collection<UUID> ids) {
+            lookups.incrementAndGet();
+            awaitGate();
+            return ids.stream()
+                    .map(users::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+            users.remove(id);
+        }
+
+        @Override
+        public void update(UUID id, String name) {
+            users.put(id, new User(id, name));
+        }
+
+        private void awaitGate() {
+            if (gate == null) {
+                return;
+            }
+
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
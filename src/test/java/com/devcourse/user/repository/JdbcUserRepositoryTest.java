@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -58,6 +59,56 @@ class JdbcUserRepositoryTest {
         assertThat(users).allMatch(user -> user.name().contains(name));
     }
 
+    @Test
+    @DisplayName("여러 유저를 한번에 저장하면 이름 수만큼 id가 부여되고 모두 조회되어야 한다.")
+    void saveAllTest() {
+        // given
+        List<String> names = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> name + i)
+                .toList();
+
+        // when
+        List<UUID> ids = userRepository.saveAll(names);
+
+        // then
+        assertThat(ids).hasSize(names.size()).doesNotHaveDuplicates();
+        assertThat(userRepository.findAll()).extracting(User::name)
+                .containsExactlyInAnyOrderElementsOf(names);
+    }
+
+    @Test
+    @DisplayName("스트림으로 조회하면 저장된 모든 유저가 조회되어야 한다.")
+    void streamAllTest() {
+        // given
+        List<String> names = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> name + i)
+                .toList();
+        userRepository.saveAll(names);
+
+        // when
+        List<String> streamed;
+        try (Stream<User> users = userRepository.streamAll()) {
+            streamed = users.map(User::name).toList();
+        }
+
+        // then
+        assertThat(streamed).containsExactlyInAnyOrderElementsOf(names);
+    }
+
+    @Test
+    @DisplayName("여러 id로 조회하면 존재하는 유저만 한번에 조회되어야 한다.")
+    void findAllByIdsTest() {
+        // given
+        List<UUID> ids = userRepository.saveAll(List.of(name + 1, name + 2, name + 3));
+        List<UUID> requested = List.of(ids.get(0), ids.get(2), UUID.randomUUID());
+
+        // when
+        List<User> users = userRepository.findAllByIds(requested);
+
+        // then
+        assertThat(users).extracting(User::id).containsExactlyInAnyOrder(ids.get(0), ids.get(2));
+    }
+
     @Nested
     @DisplayName("아이디로 조회하기 테스트")
     class findByIdTest {
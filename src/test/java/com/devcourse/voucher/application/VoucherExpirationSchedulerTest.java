@@ -0,0 +1,106 @@
+package com.devcourse.voucher.application;
+
+import com.devcourse.voucher.domain.Voucher;
+import com.devcourse.voucher.domain.repository.VoucherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.devcourse.voucher.domain.Voucher.Status.USED;
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+import static com.devcourse.voucher.domain.Voucher.Type.PERCENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(SpringExtension.class)
+class VoucherExpirationSchedulerTest {
+    private static final int BATCH_SIZE = 2;
+    private static final long LOOKAHEAD_MILLIS = 60_000;
+
+    @Mock
+    private VoucherRepository voucherRepository;
+
+    private VoucherExpirationScheduler expirationScheduler;
+
+    @BeforeEach
+    void setUp() {
+        expirationScheduler = new VoucherExpirationScheduler(voucherRepository, BATCH_SIZE, LOOKAHEAD_MILLIS);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 발급 바우처들은 배치 크기만큼 나누어 만료 처리되어야 한다.")
+    void expireDueTest() {
+        // given
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        List<Voucher> firstPage = List.of(new Voucher(10, past, PERCENT), new Voucher(20, past, PERCENT));
+        List<Voucher> lastPage = List.of(new Voucher(1000, past, FIXED));
+        given(voucherRepository.findAllAfter(null, BATCH_SIZE)).willReturn(firstPage);
+        given(voucherRepository.findAllAfter(firstPage.get(1).id(), BATCH_SIZE)).willReturn(lastPage);
+        given(voucherRepository.expireAll(anyCollection())).willAnswer(invocation -> invocation.<Collection<UUID>>getArgument(0).size());
+
+        // when
+        expirationScheduler.expireDue();
+
+        // then
+        then(voucherRepository).should(times(2)).expireAll(anyCollection());
+        then(voucherRepository).should().expireAll(argThat(ids -> ids.size() == BATCH_SIZE));
+        ExpirationMetrics metrics = expirationScheduler.metrics();
+        assertThat(metrics.expired()).isEqualTo(3);
+        assertThat(metrics.backlog()).isZero();
+        assertThat(metrics.lagMillis()).isGreaterThanOrEqualTo(60_000);
+        then(voucherRepository).should(never()).findAllBy(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("밀린 바우처를 읽는 동안에도 새 바우처의 예약은 기다리지 않고 등록되어야 한다.")
+    void scheduleDuringRefillTest() {
+        // given
+        Voucher created = new Voucher(10, LocalDateTime.now().plusSeconds(30), PERCENT);
+        given(voucherRepository.findAllAfter(null, BATCH_SIZE)).willAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> expirationScheduler.schedule(created)).get(1, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        // when
+        expirationScheduler.expireDue();
+
+        // then
+        then(voucherRepository).should(never()).expireAll(anyCollection());
+        assertThat(expirationScheduler.metrics().backlog()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("아직 만료되지 않았거나 발급 상태가 아닌 바우처는 만료 처리하지 않아야 한다.")
+    void notDueTest() {
+        // given
+        expirationScheduler.expireDue();
+
+        LocalDateTime future = LocalDateTime.now().plusSeconds(30);
+        expirationScheduler.schedule(new Voucher(10, future, PERCENT));
+        expirationScheduler.schedule(new Voucher(UUID.randomUUID(), 10, LocalDateTime.now().minusMinutes(1), PERCENT, USED));
+
+        // when
+        expirationScheduler.expireDue();
+
+        // then
+        then(voucherRepository).should(never()).expireAll(anyCollection());
+        assertThat(expirationScheduler.metrics().backlog()).isEqualTo(1);
+        assertThat(expirationScheduler.metrics().lagMillis()).isZero();
+    }
+}
@@ -1,30 +1,53 @@
 package com.devcourse.voucher.application;
 
+import com.devcourse.global.dto.CreateVoucherRequest;
 import com.devcourse.voucher.domain.Voucher;
 import com.devcourse.voucher.domain.repository.VoucherRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(SpringExtension.class)
 class VoucherServiceTest {
+    private static final String SERVICE_EVENT = "com.devcourse.VoucherService";
+
     @InjectMocks
     private VoucherService voucherService;
 
     @Mock
     private VoucherRepository voucherRepository;
 
+    @Mock
+    private VoucherExpirationScheduler expirationScheduler;
+
+    @TempDir
+    Path directory;
+
     private final LocalDateTime expiredAt = LocalDateTime.now().plusMonths(1);
 
     @ParameterizedTest
@@ -40,5 +63,70 @@ class VoucherServiceTest {
 
         // then
         then(voucherRepository).should(times(1)).save(any());
+        then(expirationScheduler).should(times(1)).schedule(any());
+    }
+
+    @Test
+    @DisplayName("여러 생성 요청은 repository의 일괄 저장을 한번만 호출해야 한다.")
+    void createAllTest() {
+        // given
+        List<CreateVoucherRequest> requests = List.of(
+                new CreateVoucherRequest(5000, expiredAt, Voucher.Type.FIXED),
+                new CreateVoucherRequest(50, expiredAt, Voucher.Type.PERCENT));
+
+        // when
+        voucherService.createAll(requests);
+
+        // then
+        then(voucherRepository).should(times(1)).saveAll(argThat(vouchers -> vouchers.size() == requests.size()));
+        then(voucherRepository).should(times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("모든 바우처를 페이지 단위로 조회해 한 줄씩 출력해야 한다.")
+    void renderAllByPageTest() {
+        // given
+        int pageSize = 2;
+        Voucher first = new Voucher(1000, expiredAt, Voucher.Type.FIXED);
+        Voucher second = new Voucher(2000, expiredAt, Voucher.Type.FIXED);
+        Voucher last = new Voucher(10, expiredAt, Voucher.Type.PERCENT);
+        given(voucherRepository.findAllAfter(isNull(), eq(pageSize))).willReturn(List.of(first, second));
+        given(voucherRepository.findAllAfter(eq(second.id()), eq(pageSize))).willReturn(List.of(last));
+
+        // when
+        List<String> lines = new ArrayList<>();
+        voucherService.renderAllByPage(pageSize, line -> lines.add(line.toString()));
+
+        // then
+        assertThat(lines).containsExactly(first.toText(), second.toText(), last.toText());
+        then(voucherRepository).should(times(2)).findAllAfter(any(), eq(pageSize));
+    }
+
+    @Test
+    @DisplayName("생성에 실패한 호출도 서비스 이벤트로 기록되어야 한다.")
+    void failedCallEventTest() throws Exception {
+        // given
+        given(voucherRepository.save(any())).willThrow(new IllegalStateException("save failed"));
+        Path file = directory.resolve("service.jfr");
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable(VoucherServiceEvent.class).withoutThreshold();
+            recording.start();
+            assertThatThrownBy(() -> voucherService.create(5000, expiredAt, Voucher.Type.FIXED))
+                    .isInstanceOf(IllegalStateException.class);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(SERVICE_EVENT))
+                .toList();
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("operation")).isEqualTo("create");
+        assertThat(events.get(0).getInt("vouchers")).isZero();
+        then(expirationScheduler).should(never()).schedule(any());
     }
 }
@@ -0,0 +1,76 @@
+package com.devcourse.voucher.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CartPricerTest {
+    private final LocalDateTime expiredAt = LocalDateTime.now().plusMonths(1);
+
+    @ParameterizedTest
+    @DisplayName("일괄 계산 결과는 항목마다 할인 정책을 호출한 결과와 같아야 한다.")
+    @CsvSource({"FIXED, 1500, 1000",
+                "PERCENT, 37, 1000",
+                "FIXED, 1500, 200000",
+                "PERCENT, 37, 200000"})
+    void priceTest(Voucher.Type type, int discount, int lines) {
+        // given
+        Voucher voucher = new Voucher(discount, expiredAt, type);
+        Random random = new Random(lines);
+        long[] amounts = new long[lines];
+        for (int i = 0; i < lines; i++) {
+            amounts[i] = random.nextInt(10_000_000);
+        }
+        long[] sequential = new long[lines];
+        long[] parallel = new long[lines];
+
+        // when
+        CartPricer.priceSequential(voucher, amounts, sequential);
+        CartPricer.priceParallel(voucher, amounts, parallel);
+
+        // then
+        for (int i = 0; i < lines; i++) {
+            long expected = voucher.policy().discountMinorUnits(amounts[i], discount);
+            assertThat(sequential[i]).isEqualTo(expected);
+            assertThat(parallel[i]).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("결과 배열이 금액 배열보다 짧으면 IllegalArgumentException을 던져야 한다.")
+    void shortResultsTest() {
+        // given
+        Voucher voucher = new Voucher(10, expiredAt, Voucher.Type.PERCENT);
+
+        // when, then
+        assertThatThrownBy(() -> CartPricer.price(voucher, new long[10], new long[9]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("곱셈이 넘치지 않는 경계의 금액은 항목별 계산과 같고 넘치는 금액은 ArithmeticException을 던져야 한다.")
+    void overflowBoundaryTest() {
+        // given
+        int discount = 37;
+        Voucher voucher = new Voucher(discount, expiredAt, Voucher.Type.PERCENT);
+        long[] boundary = {Long.MAX_VALUE / 100, -(Long.MAX_VALUE / 100), Long.MAX_VALUE / 63};
+        long[] results = new long[boundary.length];
+
+        // when
+        CartPricer.price(voucher, boundary, results);
+
+        // then
+        for (int i = 0; i < boundary.length; i++) {
+            assertThat(results[i]).isEqualTo(voucher.policy().discountMinorUnits(boundary[i], discount));
+        }
+        assertThatThrownBy(() -> CartPricer.price(voucher, new long[] {1000, Long.MAX_VALUE / 10}, new long[2]))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
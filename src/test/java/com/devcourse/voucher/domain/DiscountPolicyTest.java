@@ -1,12 +1,15 @@
 package com.devcourse.voucher.domain;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class DiscountPolicyTest {
 
@@ -28,9 +31,9 @@ class DiscountPolicyTest {
 
     @ParameterizedTest
     @DisplayName("퍼센트 할인 정책으로 계산하면 예상 결과와 동일해야 한다.")
-    @CsvSource({"1000, 50, 500.0",
-                "2500, 100, 0.0",
-                "120, 10, 108.0"})
+    @CsvSource({"1000, 50, 500",
+                "2500, 100, 0",
+                "120, 10, 108"})
     void percentDiscountTest(int price, int discountRate, BigDecimal result) {
         // given
         PercentDiscountPolicy policy = new PercentDiscountPolicy();
@@ -41,4 +44,35 @@ class DiscountPolicyTest {
         // then
         assertThat(discounted).isEqualTo(result);
     }
+
+    @ParameterizedTest
+    @DisplayName("퍼센트 할인 금액은 지정한 반올림 방식으로 최소 화폐 단위까지 계산되어야 한다.")
+    @CsvSource({"12950, 15, HALF_UP, 11008",
+                "12950, 15, HALF_DOWN, 11007",
+                "12950, 15, HALF_EVEN, 11008",
+                "12930, 15, HALF_EVEN, 10990",
+                "12901, 15, DOWN, 10965",
+                "12901, 15, UP, 10966",
+                "999, 33, HALF_UP, 669"})
+    void percentMinorUnitsTest(long price, int discountRate, RoundingMode roundingMode, long result) {
+        // given
+        PercentDiscountPolicy policy = new PercentDiscountPolicy();
+
+        // when
+        long discounted = policy.discountMinorUnits(price, discountRate, roundingMode);
+
+        // then
+        assertThat(discounted).isEqualTo(result);
+    }
+
+    @Test
+    @DisplayName("반올림이 필요한데 UNNECESSARY로 계산하면 ArithmeticException을 던져야 한다.")
+    void unnecessaryRoundingTest() {
+        // given
+        PercentDiscountPolicy policy = new PercentDiscountPolicy();
+
+        // when, then
+        assertThatThrownBy(() -> policy.discountMinorUnits(12950, 15, RoundingMode.UNNECESSARY))
+                .isInstanceOf(ArithmeticException.class);
+    }
 }
@@ -0,0 +1,138 @@
+package com.devcourse.voucher.domain.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AppendLogTest {
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest
+    @DisplayName("여러 스레드가 동시에 기록해도 모든 레코드가 섞이지 않고 각자의 위치에 기록되어야 한다.")
+    @EnumSource(FsyncPolicy.class)
+    void concurrentAppendTest(FsyncPolicy fsyncPolicy) throws Exception {
+        // given
+        int threads = 8;
+        int records = 100;
+        Path path = directory.resolve("vouchers.txt");
+        Set<Long> offsets = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        try (AppendLog appendLog = new AppendLog(path, fsyncPolicy, 5)) {
+            IntStream.range(0, threads * records).forEach(i -> executor.submit(() -> {
+                String record = "record-%04d\n".formatted(i);
+                offsets.add(appendLog.append(ByteBuffer.wrap(record.getBytes(UTF_8))));
+            }));
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        // then
+        List<String> lines = Files.readAllLines(path, UTF_8);
+        assertThat(lines).hasSize(threads * records).doesNotHaveDuplicates();
+        assertThat(lines).allMatch(line -> line.matches("record-\\d{4}"));
+        assertThat(offsets).hasSize(threads * records);
+    }
+
+    @ParameterizedTest
+    @DisplayName("기록이 반환된 위치에는 해당 레코드가 있어야 한다.")
+    @EnumSource(FsyncPolicy.class)
+    void offsetTest(FsyncPolicy fsyncPolicy) throws IOException {
+        // given
+        Path path = directory.resolve("offsets.txt");
+        byte[] first = "first\n".getBytes(UTF_8);
+        byte[] second = "second\n".getBytes(UTF_8);
+
+        // when
+        long firstOffset;
+        long secondOffset;
+        try (AppendLog appendLog = new AppendLog(path, fsyncPolicy, 5)) {
+            firstOffset = appendLog.append(ByteBuffer.wrap(first));
+            secondOffset = appendLog.append(ByteBuffer.wrap(second));
+        }
+
+        // then
+        assertThat(firstOffset).isZero();
+        assertThat(secondOffset).isEqualTo(first.length);
+        assertThat(Files.size(path)).isEqualTo(first.length + second.length);
+    }
+
+    @ParameterizedTest
+    @DisplayName("빈 레코드는 기록하지 않고 IllegalArgumentException을 던져야 한다.")
+    @EnumSource(FsyncPolicy.class)
+    void emptyRecordTest(FsyncPolicy fsyncPolicy) throws IOException {
+        // given
+        Path path = directory.resolve("empty.txt");
+        byte[] record = "record\n".getBytes(UTF_8);
+
+        // when
+        long offset;
+        try (AppendLog appendLog = new AppendLog(path, fsyncPolicy, 5)) {
+            assertThatThrownBy(() -> appendLog.append(ByteBuffer.allocate(0)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            offset = appendLog.append(ByteBuffer.wrap(record));
+        }
+
+        // then
+        assertThat(offset).isZero();
+        assertThat(Files.size(path)).isEqualTo(record.length);
+    }
+
+    @ParameterizedTest
+    @DisplayName("닫는 도중에 기록을 요청해도 모든 요청은 위치를 반환하거나 예외로 끝나야 한다.")
+    @EnumSource(FsyncPolicy.class)
+    void appendWhileClosingTest(FsyncPolicy fsyncPolicy) throws Exception {
+        // given
+        int threads = 8;
+        Path path = directory.resolve("closing.txt");
+        AppendLog appendLog = new AppendLog(path, fsyncPolicy, 5);
+        CyclicBarrier barrier = new CyclicBarrier(threads + 1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<Object>> appends = IntStream.range(0, threads)
+                .mapToObj(thread -> executor.submit(() -> {
+                    barrier.await();
+                    for (int i = 0; i < 100; i++) {
+                        try {
+                            appendLog.append(ByteBuffer.wrap("record\n".getBytes(UTF_8)));
+                        } catch (IllegalStateException | UncheckedIOException e) {
+                            return null;
+                        }
+                    }
+                    return null;
+                }))
+                .toList();
+        barrier.await();
+        appendLog.close();
+
+        // then
+        for (Future<Object> append : appends) {
+            assertThatCode(() -> append.get(10, TimeUnit.SECONDS)).doesNotThrowAnyException();
+        }
+        executor.shutdown();
+    }
+}
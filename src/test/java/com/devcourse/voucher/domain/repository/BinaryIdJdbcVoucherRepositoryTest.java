@@ -0,0 +1,120 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.global.utils.UuidConverter;
+import com.devcourse.voucher.domain.Voucher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static com.devcourse.voucher.domain.Voucher.Status.EXPIRED;
+import static com.devcourse.voucher.domain.Voucher.Status.ISSUED;
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+import static com.devcourse.voucher.domain.Voucher.Type.PERCENT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("dev")
+@JdbcTest
+@ContextConfiguration(classes = JdbcVoucherRepository.class)
+@TestPropertySource(properties = {
+        "jdbc.id-type=BINARY",
+        "spring.sql.init.schema-locations=classpath:schema-binary.sql"
+})
+class BinaryIdJdbcVoucherRepositoryTest {
+    private static final Comparator<UUID> BYTE_ORDER =
+            Comparator.comparing(UuidConverter::toBytes, Arrays::compareUnsigned);
+
+    @Autowired
+    private VoucherRepository voucherRepository;
+
+    private final LocalDateTime expiredAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("BINARY id로 저장한 바우처는 id로 조회하면 저장한 상태를 그대로 가지고 있어야 한다.")
+    void findByIdTest() {
+        // given
+        Voucher voucher = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        voucherRepository.save(new Voucher(1000, expiredAt, FIXED));
+
+        // when
+        Voucher found = voucherRepository.findById(voucher.id()).get();
+
+        // then
+        assertThat(found.toText()).isEqualTo(voucher.toText());
+        assertThat(voucherRepository.findAll()).extracting(Voucher::id).contains(voucher.id());
+    }
+
+    @Test
+    @DisplayName("빈 바이트 배열부터 페이지를 이어서 조회하면 모든 바우처를 바이트 순서대로 한번씩 조회해야 한다.")
+    void findAllAfterTest() {
+        // given
+        int pageSize = 3;
+        List<Voucher> vouchers = IntStream.rangeClosed(1, 10)
+                .mapToObj(discount -> new Voucher(discount, expiredAt, FIXED))
+                .toList();
+        voucherRepository.saveAll(vouchers);
+
+        // when
+        List<Voucher> found = new ArrayList<>();
+        List<Voucher> page = voucherRepository.findAllAfter(null, pageSize);
+
+        while (!page.isEmpty()) {
+            found.addAll(page);
+            page = voucherRepository.findAllAfter(page.get(page.size() - 1).id(), pageSize);
+        }
+
+        // then
+        assertThat(found).extracting(Voucher::id)
+                .isSortedAccordingTo(BYTE_ORDER)
+                .containsExactlyInAnyOrderElementsOf(vouchers.stream().map(Voucher::id).toList());
+    }
+
+    @Test
+    @DisplayName("IN 자리를 채우고 남는 자리는 마지막 id로 채워도 요청한 바우처만 한번씩 조회하고 만료해야 한다.")
+    void bucketPaddingTest() {
+        // given
+        List<Voucher> vouchers = IntStream.rangeClosed(1, 5)
+                .mapToObj(discount -> new Voucher(discount, expiredAt, PERCENT))
+                .toList();
+        voucherRepository.saveAll(vouchers);
+        List<UUID> requested = List.of(vouchers.get(0).id(), vouchers.get(2).id(), UUID.randomUUID());
+
+        // when
+        List<Voucher> found = voucherRepository.findAllByIds(requested);
+        int expired = voucherRepository.expireAll(requested);
+
+        // then
+        assertThat(found).extracting(Voucher::id)
+                .containsExactlyInAnyOrder(vouchers.get(0).id(), vouchers.get(2).id());
+        assertThat(expired).isEqualTo(2);
+        assertThat(voucherRepository.findById(vouchers.get(0).id()).get().status()).isEqualTo(EXPIRED);
+        assertThat(voucherRepository.findById(vouchers.get(1).id()).get().status()).isEqualTo(ISSUED);
+    }
+
+    @Test
+    @DisplayName("BINARY id로 저장한 바우처도 한번만 사용 처리되어야 한다.")
+    void redeemTest() {
+        // given
+        Voucher voucher = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+
+        // when
+        boolean first = voucherRepository.redeem(voucher.id());
+        boolean second = voucherRepository.redeem(voucher.id());
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(voucherRepository.findById(voucher.id()).get().isUsed()).isTrue();
+    }
+}
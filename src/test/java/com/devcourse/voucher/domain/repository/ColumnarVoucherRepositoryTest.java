@@ -0,0 +1,141 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static com.devcourse.voucher.domain.Voucher.Status.EXPIRED;
+import static com.devcourse.voucher.domain.Voucher.Status.ISSUED;
+import static com.devcourse.voucher.domain.Voucher.Status.USED;
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+import static com.devcourse.voucher.domain.Voucher.Type.PERCENT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarVoucherRepositoryTest {
+    private ColumnarVoucherRepository voucherRepository;
+
+    private final LocalDateTime expiredAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        voucherRepository = new ColumnarVoucherRepository();
+    }
+
+    @Test
+    @DisplayName("id로 조회한 바우처는 저장한 상태를 그대로 가지고 있어야 한다.")
+    void findByIdTest() {
+        // given
+        Voucher voucher = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        voucherRepository.save(new Voucher(1000, expiredAt, FIXED));
+
+        // when
+        Voucher found = voucherRepository.findById(voucher.id()).get();
+
+        // then
+        assertThat(found.toText()).isEqualTo(voucher.toText());
+    }
+
+    @Test
+    @DisplayName("상태를 수정하거나 삭제하면 id로 조회한 결과에 반영되어야 한다.")
+    void updateAndDeleteTest() {
+        // given
+        Voucher used = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        Voucher deleted = voucherRepository.save(new Voucher(1000, expiredAt, FIXED));
+        Voucher moved = voucherRepository.save(new Voucher(10, expiredAt, FIXED));
+
+        // when
+        voucherRepository.updateStatus(used.id(), USED.name());
+        voucherRepository.deleteById(deleted.id());
+
+        // then
+        assertThat(voucherRepository.findById(used.id()).get().isUsed()).isTrue();
+        assertThat(voucherRepository.findById(deleted.id())).isEmpty();
+        assertThat(voucherRepository.findById(moved.id()).get().toText()).isEqualTo(moved.toText());
+        assertThat(voucherRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("상태, 종류, 만료 기간으로 조회하면 조건에 맞는 바우처만 만료 순서대로 조회되어야 한다.")
+    void findAllByTest() {
+        // given
+        Voucher later = voucherRepository.save(new Voucher(10, expiredAt.plusDays(3), PERCENT));
+        Voucher sooner = voucherRepository.save(new Voucher(20, expiredAt.plusDays(1), PERCENT));
+        Voucher used = voucherRepository.save(new Voucher(30, expiredAt.plusDays(2), PERCENT));
+        voucherRepository.save(new Voucher(1000, expiredAt.plusDays(2), FIXED));
+        voucherRepository.save(new Voucher(40, expiredAt.plusDays(8), PERCENT));
+        voucherRepository.updateStatus(used.id(), USED.name());
+
+        // when
+        List<Voucher> found = voucherRepository.findAllBy(ISSUED, PERCENT, expiredAt, expiredAt.plusWeeks(1));
+
+        // then
+        assertThat(found).extracting(Voucher::id).containsExactly(sooner.id(), later.id());
+        assertThat(voucherRepository.countBy(ISSUED, PERCENT, expiredAt, expiredAt.plusWeeks(1))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료 처리는 발급 상태인 바우처만 만료 상태로 바꿔야 한다.")
+    void expireAllTest() {
+        // given
+        Voucher issued = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        Voucher used = voucherRepository.save(new Voucher(1000, expiredAt, FIXED));
+        voucherRepository.updateStatus(used.id(), USED.name());
+
+        // when
+        int expired = voucherRepository.expireAll(List.of(issued.id(), used.id(), UUID.randomUUID()));
+
+        // then
+        assertThat(expired).isEqualTo(1);
+        assertThat(voucherRepository.findById(issued.id()).get().status()).isEqualTo(EXPIRED);
+        assertThat(voucherRepository.findById(used.id()).get().status()).isEqualTo(USED);
+    }
+
+    @Test
+    @DisplayName("마지막 id 이후로 페이지를 이어서 조회하면 삭제되지 않은 바우처를 id 순서대로 한번씩 조회해야 한다.")
+    void findAllAfterTest() {
+        VoucherRepositoryScenarios.assertPagesVisitEachVoucherOnceInIdOrder(voucherRepository);
+    }
+
+    @Test
+    @DisplayName("저장과 삭제를 반복해도 id 인덱스는 모든 바우처를 찾을 수 있어야 한다.")
+    void indexTest() {
+        // given
+        Random random = new Random(0);
+        List<Voucher> vouchers = IntStream.range(0, 5000)
+                .mapToObj(minutes -> new Voucher(10, expiredAt.plusMinutes(minutes), FIXED))
+                .toList();
+        Map<UUID, Voucher> expected = new HashMap<>();
+
+        // when
+        for (int i = 0; i < 50000; i++) {
+            Voucher voucher = vouchers.get(random.nextInt(vouchers.size()));
+            if (random.nextInt(3) == 0) {
+                voucherRepository.deleteById(voucher.id());
+                expected.remove(voucher.id());
+            } else {
+                voucherRepository.save(voucher);
+                expected.put(voucher.id(), voucher);
+            }
+        }
+
+        // then
+        assertThat(voucherRepository.size()).isEqualTo(expected.size());
+        assertThat(vouchers).allSatisfy(voucher ->
+                assertThat(voucherRepository.findById(voucher.id()).isPresent()).isEqualTo(expected.containsKey(voucher.id())));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 사용 처리해도 한번만 성공해야 한다.")
+    void redeemTest() {
+        VoucherRepositoryScenarios.assertRedeemedOnceUnderContention(voucherRepository);
+    }
+}
@@ -0,0 +1,368 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.devcourse.voucher.domain.Voucher.Status.EXPIRED;
+import static com.devcourse.voucher.domain.Voucher.Status.USED;
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+import static com.devcourse.voucher.domain.Voucher.Type.PERCENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileVoucherRepositoryTest {
+    @TempDir
+    private Path directory;
+
+    private FileVoucherRepository voucherRepository;
+
+    private final LocalDateTime expiredAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (voucherRepository != null) {
+            voucherRepository.close();
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("id로 조회한 바우처는 저장한 상태를 그대로 가지고 있어야 한다.")
+    @EnumSource(VoucherFileFormat.class)
+    void findByIdTest(VoucherFileFormat format) {
+        // given
+        voucherRepository = open(format);
+        Voucher voucher = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        voucherRepository.save(new Voucher(1000, expiredAt, FIXED));
+
+        // when
+        Optional<Voucher> found = voucherRepository.findById(voucher.id());
+
+        // then
+        assertThat(found).isNotEmpty();
+        assertThat(found.get().toText()).isEqualTo(voucher.toText());
+    }
+
+    @ParameterizedTest
+    @DisplayName("상태를 수정하면 최신 상태만 조회되어야 한다.")
+    @EnumSource(VoucherFileFormat.class)
+    void updateStatusTest(VoucherFileFormat format) {
+        // given
+        voucherRepository = open(format);
+        Voucher voucher = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+
+        // when
+        voucherRepository.updateStatus(voucher.id(), USED.name());
+
+        // then
+        assertThat(voucherRepository.findById(voucher.id()).get().isUsed()).isTrue();
+        assertThat(voucherRepository.findAll()).hasSize(1);
+    }
+
+    @ParameterizedTest
+    @DisplayName("삭제한 바우처는 조회되지 않아야 한다.")
+    @EnumSource(VoucherFileFormat.class)
+    void deleteByIdTest(VoucherFileFormat format) {
+        // given
+        voucherRepository = open(format);
+        Voucher deleted = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        Voucher remained = voucherRepository.save(new Voucher(1000, expiredAt, FIXED));
+
+        // when
+        voucherRepository.deleteById(deleted.id());
+
+        // then
+        assertThat(voucherRepository.findById(deleted.id())).isEmpty();
+        assertThat(voucherRepository.findAll()).extracting(Voucher::id).containsExactly(remained.id());
+    }
+
+    @ParameterizedTest
+    @DisplayName("만료 처리는 발급 상태인 바우처만 만료 상태로 바꾸고 다시 열어도 유지되어야 한다.")
+    @EnumSource(VoucherFileFormat.class)
+    void expireAllTest(VoucherFileFormat format) throws IOException {
+        // given
+        voucherRepository = open(format);
+        Voucher issued = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        Voucher used = voucherRepository.save(new Voucher(1000, expiredAt, FIXED));
+        voucherRepository.updateStatus(used.id(), USED.name());
+
+        // when
+        int expired = voucherRepository.expireAll(List.of(issued.id(), used.id(), UUID.randomUUID()));
+        voucherRepository.close();
+        voucherRepository = open(format);
+
+        // then
+        assertThat(expired).isEqualTo(1);
+        assertThat(voucherRepository.findById(issued.id()).get().status()).isEqualTo(EXPIRED);
+        assertThat(voucherRepository.findById(used.id()).get().status()).isEqualTo(USED);
+    }
+
+    @ParameterizedTest
+    @DisplayName("다시 열면 파일의 기록으로 인덱스를 복구해야 한다.")
+    @EnumSource(VoucherFileFormat.class)
+    void rebuildIndexTest(VoucherFileFormat format) throws IOException {
+        // given
+        voucherRepository = open(format);
+        Voucher used = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        Voucher deleted = voucherRepository.save(new Voucher(1000, expiredAt, FIXED));
+        voucherRepository.saveAll(List.of(new Voucher(10, expiredAt, PERCENT), new Voucher(20, expiredAt, PERCENT)));
+        voucherRepository.updateStatus(used.id(), USED.name());
+        voucherRepository.deleteById(deleted.id());
+        voucherRepository.close();
+
+        // when
+        voucherRepository = open(format);
+
+        // then
+        assertThat(voucherRepository.findAll()).hasSize(3);
+        assertThat(voucherRepository.findById(used.id()).get().isUsed()).isTrue();
+        assertThat(voucherRepository.findById(deleted.id())).isEmpty();
+    }
+
+    @ParameterizedTest
+    @DisplayName("마지막 id 이후로 페이지를 이어서 조회하면 삭제되지 않은 바우처를 id 순서대로 한번씩 조회해야 한다.")
+    @EnumSource(VoucherFileFormat.class)
+    void findAllAfterTest(VoucherFileFormat format) {
+        voucherRepository = open(format);
+        VoucherRepositoryScenarios.assertPagesVisitEachVoucherOnceInIdOrder(voucherRepository);
+    }
+
+    @ParameterizedTest
+    @DisplayName("마지막 기록이 쓰다 만 상태로 다시 열면 잘린 기록을 버리고 이어서 저장해야 한다.")
+    @EnumSource(VoucherFileFormat.class)
+    void tornTailTest(VoucherFileFormat format) throws IOException {
+        // given
+        voucherRepository = open(format);
+        Path file = directory.resolve("vouchers." + format);
+        Voucher saved = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        voucherRepository.close();
+        long intact = Files.size(file);
+        byte[] record = format.codec().encode(new Voucher(1000, expiredAt, FIXED));
+        Files.write(file, Arrays.copyOf(record, record.length / 2), StandardOpenOption.APPEND);
+
+        // when
+        voucherRepository = open(format);
+        Voucher appended = voucherRepository.save(new Voucher(20, expiredAt, PERCENT));
+        voucherRepository.close();
+        voucherRepository = open(format);
+
+        // then
+        assertThat(Files.size(file)).isEqualTo(intact + format.codec().encode(appended).length);
+        assertThat(voucherRepository.findAll()).extracting(Voucher::toText)
+                .containsExactly(saved.toText(), appended.toText());
+    }
+
+    @ParameterizedTest
+    @DisplayName("압축하면 파일이 줄어들고 살아있는 바우처만 남아야 한다.")
+    @EnumSource(VoucherFileFormat.class)
+    void compactTest(VoucherFileFormat format) throws IOException {
+        // given
+        voucherRepository = open(format);
+        Path file = directory.resolve("vouchers." + format);
+        Voucher used = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        Voucher deleted = voucherRepository.save(new Voucher(1000, expiredAt, FIXED));
+        voucherRepository.updateStatus(used.id(), USED.name());
+        voucherRepository.deleteById(deleted.id());
+        long before = Files.size(file);
+
+        // when
+        CompactionResult result = voucherRepository.compact();
+
+        // then
+        assertThat(Files.size(file)).isLessThan(before);
+        assertThat(result.reclaimedBytes()).isEqualTo(before - Files.size(file));
+        assertThat(voucherRepository.garbageRatio()).isZero();
+        assertThat(voucherRepository.findAll()).extracting(Voucher::id).containsExactly(used.id());
+        assertThat(voucherRepository.findById(used.id()).get().isUsed()).isTrue();
+        assertThat(voucherRepository.findById(deleted.id())).isEmpty();
+
+        voucherRepository.close();
+        voucherRepository = open(format);
+        assertThat(voucherRepository.findAll()).extracting(Voucher::id).containsExactly(used.id());
+    }
+
+    @Test
+    @DisplayName("압축 중에 저장한 바우처도 유실되지 않아야 한다.")
+    void compactWhileSavingTest() throws Exception {
+        // given
+        voucherRepository = open(VoucherFileFormat.TEXT);
+        List<Voucher> garbage = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            garbage.add(voucherRepository.save(new Voucher(1000, expiredAt, FIXED)));
+        }
+        garbage.forEach(voucher -> voucherRepository.deleteById(voucher.id()));
+
+        // when
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<List<Voucher>> saved = executor.submit(() -> {
+            List<Voucher> vouchers = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                vouchers.add(voucherRepository.save(new Voucher(10, expiredAt, PERCENT)));
+            }
+            return vouchers;
+        });
+        voucherRepository.compact();
+        List<Voucher> expected = saved.get();
+        executor.shutdown();
+
+        // then
+        assertThat(voucherRepository.findAll()).extracting(Voucher::id)
+                .containsExactlyInAnyOrderElementsOf(expected.stream().map(Voucher::id).toList());
+    }
+
+    @ParameterizedTest
+    @DisplayName("빈 일괄 저장과 동시에 저장한 바우처도 다시 열었을 때 모두 조회되어야 한다.")
+    @EnumSource(VoucherFileFormat.class)
+    void saveWhileSavingNothingTest(VoucherFileFormat format) throws Exception {
+        // given
+        voucherRepository = open(format);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<?> savingNothing = executor.submit(() -> {
+            for (int i = 0; i < 1000; i++) {
+                voucherRepository.saveAll(List.of());
+            }
+        });
+        List<Voucher> saved = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            saved.add(voucherRepository.save(new Voucher(10, expiredAt, PERCENT)));
+        }
+        savingNothing.get();
+        executor.shutdown();
+        voucherRepository.close();
+        voucherRepository = open(format);
+
+        // then
+        assertThat(voucherRepository.findAll()).extracting(Voucher::id)
+                .containsExactlyInAnyOrderElementsOf(saved.stream().map(Voucher::id).toList());
+    }
+
+    @Test
+    @DisplayName("만료 처리와 사용 처리가 겹쳐도 각 바우처는 둘 중 하나로만 바뀌어야 한다.")
+    void expireWhileRedeemingTest() throws Exception {
+        // given
+        voucherRepository = open(VoucherFileFormat.BINARY);
+        List<Voucher> vouchers = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            vouchers.add(new Voucher(10, expiredAt, PERCENT));
+        }
+        voucherRepository.saveAll(vouchers);
+        List<UUID> ids = vouchers.stream().map(Voucher::id).toList();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<Integer> expiring = executor.submit(() -> {
+            int expired = 0;
+            for (int from = 0; from < ids.size(); from += 50) {
+                expired += voucherRepository.expireAll(ids.subList(from, from + 50));
+            }
+            return expired;
+        });
+        int redeemed = 0;
+        for (UUID id : ids) {
+            redeemed += voucherRepository.redeem(id) ? 1 : 0;
+        }
+        int expired = expiring.get();
+        executor.shutdown();
+
+        // then
+        List<Voucher> found = voucherRepository.findAll();
+        assertThat(redeemed + expired).isEqualTo(vouchers.size());
+        assertThat(found).filteredOn(Voucher::isUsed).hasSize(redeemed);
+        assertThat(found).extracting(Voucher::status).doesNotContain(Voucher.Status.ISSUED);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 사용 처리해도 한번만 성공해야 한다.")
+    void redeemTest() {
+        voucherRepository = open(VoucherFileFormat.BINARY);
+        VoucherRepositoryScenarios.assertRedeemedOnceUnderContention(voucherRepository);
+    }
+
+    @Test
+    @DisplayName("텍스트 파일을 바이너리로 변환하면 같은 바우처들이 조회되어야 한다.")
+    void convertTest() throws IOException {
+        // given
+        Path text = directory.resolve("vouchers.txt");
+        Path binary = directory.resolve("vouchers.bin");
+        FileVoucherRepository textRepository = new FileVoucherRepository(text.toString(), VoucherFileFormat.TEXT, FsyncPolicy.NEVER, 0);
+        Voucher deleted = textRepository.save(new Voucher(1000, expiredAt, FIXED));
+        textRepository.saveAll(List.of(new Voucher(10, expiredAt, PERCENT), new Voucher(20, expiredAt, PERCENT)));
+        textRepository.deleteById(deleted.id());
+        List<String> expected = textRepository.findAll().stream().map(Voucher::toText).toList();
+        textRepository.close();
+
+        // when
+        long converted = VoucherFileConverter.convert(text, binary);
+
+        // then
+        voucherRepository = new FileVoucherRepository(binary.toString(), VoucherFileFormat.BINARY, FsyncPolicy.NEVER, 0);
+        assertThat(converted).isEqualTo(4);
+        assertThat(voucherRepository.findAll()).extracting(Voucher::toText).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("헤더가 다른 파일을 바이너리로 열면 IllegalStateException을 던져야 한다.")
+    void invalidHeaderTest() throws IOException {
+        // given
+        Path text = directory.resolve("vouchers.txt");
+        Files.writeString(text, new Voucher(1000, expiredAt, FIXED).toText() + "\n");
+
+        // when, then
+        assertThatThrownBy(() -> new FileVoucherRepository(text.toString(), VoucherFileFormat.BINARY, FsyncPolicy.NEVER, 0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("헤더를 쓰다 만 바이너리 파일은 빈 파일로 다시 시작해야 한다.")
+    void tornHeaderTest() throws IOException {
+        // given
+        Path binary = directory.resolve("vouchers." + VoucherFileFormat.BINARY);
+        byte[] header = VoucherFileFormat.BINARY.codec().header();
+        Files.write(binary, Arrays.copyOf(header, header.length - 3));
+
+        // when
+        voucherRepository = open(VoucherFileFormat.BINARY);
+        Voucher saved = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        voucherRepository.close();
+        voucherRepository = open(VoucherFileFormat.BINARY);
+
+        // then
+        assertThat(voucherRepository.findAll()).extracting(Voucher::toText).containsExactly(saved.toText());
+    }
+
+    @Test
+    @DisplayName("헤더보다 짧고 헤더와 다른 파일을 바이너리로 열면 IllegalStateException을 던져야 한다.")
+    void shortInvalidHeaderTest() throws IOException {
+        // given
+        Path binary = directory.resolve("vouchers." + VoucherFileFormat.BINARY);
+        Files.write(binary, new byte[] {1, 2, 3});
+
+        // when, then
+        assertThatThrownBy(() -> open(VoucherFileFormat.BINARY))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private FileVoucherRepository open(VoucherFileFormat format) {
+        return new FileVoucherRepository(directory.resolve("vouchers." + format).toString(), format, FsyncPolicy.NEVER, 0);
+    }
+}
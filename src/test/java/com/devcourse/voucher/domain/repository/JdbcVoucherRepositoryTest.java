@@ -13,9 +13,12 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.devcourse.voucher.domain.Voucher.Status.*;
 import static com.devcourse.voucher.domain.Voucher.Type.*;
@@ -53,6 +56,142 @@ class JdbcVoucherRepositoryTest {
         assertThat(saved.isUsed()).isFalse();
     }
 
+    @Test
+    @DisplayName("여러 바우처를 한번에 저장하면 모두 조회되어야 한다.")
+    void saveAllTest() {
+        // given
+        List<Voucher> vouchers = IntStream.rangeClosed(1, 10)
+                .mapToObj(discount -> new Voucher(discount, expiredAt, PERCENT))
+                .toList();
+
+        // when
+        voucherRepository.saveAll(vouchers);
+
+        // then
+        List<Voucher> saved = voucherRepository.findAll();
+        assertThat(saved).hasSize(vouchers.size());
+        assertThat(saved).extracting(Voucher::id)
+                .containsExactlyInAnyOrderElementsOf(vouchers.stream().map(Voucher::id).toList());
+    }
+
+    @Test
+    @DisplayName("마지막 id 이후로 페이지를 이어서 조회하면 모든 바우처를 id 순서대로 한번씩 조회해야 한다.")
+    void findAllAfterTest() {
+        // given
+        int pageSize = 3;
+        List<Voucher> vouchers = IntStream.rangeClosed(1, 10)
+                .mapToObj(discount -> new Voucher(discount, expiredAt, FIXED))
+                .toList();
+        voucherRepository.saveAll(vouchers);
+
+        // when
+        List<Voucher> found = new ArrayList<>();
+        List<Voucher> page = voucherRepository.findAllAfter(null, pageSize);
+
+        while (!page.isEmpty()) {
+            found.addAll(page);
+            page = voucherRepository.findAllAfter(page.get(page.size() - 1).id(), pageSize);
+        }
+
+        // then
+        assertThat(found).extracting(voucher -> voucher.id().toString())
+                .isSorted()
+                .containsExactlyInAnyOrderElementsOf(vouchers.stream().map(voucher -> voucher.id().toString()).toList());
+    }
+
+    @Test
+    @DisplayName("스트림으로 조회한 바우처 수는 저장한 바우처 수와 같아야 한다.")
+    void streamAllTest() {
+        // given
+        List<Voucher> vouchers = IntStream.rangeClosed(1, 10)
+                .mapToObj(discount -> new Voucher(discount, expiredAt, FIXED))
+                .toList();
+        voucherRepository.saveAll(vouchers);
+
+        // when
+        long count;
+        try (Stream<Voucher> stream = voucherRepository.streamAll()) {
+            count = stream.count();
+        }
+
+        // then
+        assertThat(count).isEqualTo(vouchers.size());
+    }
+
+    @Test
+    @DisplayName("상태, 종류, 만료 기간으로 조회하면 조건에 맞는 바우처만 만료 순서대로 조회되어야 한다.")
+    void findAllByTest() {
+        // given
+        Voucher later = new Voucher(10, expiredAt.plusDays(3), PERCENT);
+        Voucher sooner = new Voucher(20, expiredAt.plusDays(1), PERCENT);
+        voucherRepository.saveAll(List.of(
+                later,
+                sooner,
+                new Voucher(UUID.randomUUID(), 30, expiredAt.plusDays(2), PERCENT, USED),
+                new Voucher(1000, expiredAt.plusDays(2), FIXED),
+                new Voucher(40, expiredAt.plusDays(8), PERCENT)
+        ));
+
+        // when
+        List<Voucher> found = voucherRepository.findAllBy(ISSUED, PERCENT, expiredAt, expiredAt.plusWeeks(1));
+
+        // then
+        assertThat(found).extracting(Voucher::id).containsExactly(sooner.id(), later.id());
+    }
+
+    @Test
+    @DisplayName("여러 id로 조회하면 존재하는 바우처만 한번에 조회되어야 한다.")
+    void findAllByIdsTest() {
+        // given
+        List<Voucher> vouchers = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> new Voucher(i * 10, expiredAt, PERCENT))
+                .toList();
+        voucherRepository.saveAll(vouchers);
+        List<UUID> ids = List.of(vouchers.get(0).id(), vouchers.get(2).id(), vouchers.get(4).id(), UUID.randomUUID(), vouchers.get(0).id());
+
+        // when
+        List<Voucher> found = voucherRepository.findAllByIds(ids);
+
+        // then
+        assertThat(found).extracting(Voucher::id)
+                .containsExactlyInAnyOrder(vouchers.get(0).id(), vouchers.get(2).id(), vouchers.get(4).id());
+    }
+
+    @Test
+    @DisplayName("만료 처리는 발급 상태인 바우처만 만료 상태로 바꿔야 한다.")
+    void expireAllTest() {
+        // given
+        Voucher issued = new Voucher(50, expiredAt, PERCENT);
+        Voucher used = new Voucher(UUID.randomUUID(), 1000, expiredAt, FIXED, USED);
+        voucherRepository.saveAll(List.of(issued, used));
+
+        // when
+        int expired = voucherRepository.expireAll(List.of(issued.id(), used.id(), UUID.randomUUID()));
+
+        // then
+        assertThat(expired).isEqualTo(1);
+        assertThat(voucherRepository.findById(issued.id()).get().status()).isEqualTo(EXPIRED);
+        assertThat(voucherRepository.findById(used.id()).get().status()).isEqualTo(USED);
+    }
+
+    @Test
+    @DisplayName("발급 상태인 바우처만 사용 처리되고 두번째 사용은 실패해야 한다.")
+    void redeemTest() {
+        // given
+        Voucher issued = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        Voucher expired = voucherRepository.save(new Voucher(UUID.randomUUID(), 1000, expiredAt, FIXED, EXPIRED));
+
+        // when
+        boolean first = voucherRepository.redeem(issued.id());
+        boolean second = voucherRepository.redeem(issued.id());
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(voucherRepository.redeem(expired.id())).isFalse();
+        assertThat(voucherRepository.findById(issued.id()).get().isUsed()).isTrue();
+    }
+
     @Nested
     @DisplayName("아이디로 조회하기 테스트")
     class findByIdTest {
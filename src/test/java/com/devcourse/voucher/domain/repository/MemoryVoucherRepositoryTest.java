@@ -7,8 +7,17 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static com.devcourse.voucher.domain.Voucher.Status.EXPIRED;
+import static com.devcourse.voucher.domain.Voucher.Status.ISSUED;
+import static com.devcourse.voucher.domain.Voucher.Status.USED;
 import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
 import static com.devcourse.voucher.domain.Voucher.Type.PERCENT;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,4 +67,143 @@ class MemoryVoucherRepositoryTest {
         // then
         assertThat(vouchers).isNotEmpty().hasSize(5);
     }
+
+    @Test
+    @DisplayName("여러 바우처를 한번에 저장하면 저장한 개수만큼 조회되어야 한다.")
+    void saveAllTest() {
+        // given
+        List<Voucher> vouchers = IntStream.rangeClosed(1, 10)
+                .mapToObj(discount -> new Voucher(discount, expiredAt, FIXED))
+                .toList();
+
+        // when
+        voucherRepository.saveAll(vouchers);
+
+        // then
+        assertThat(voucherRepository.findAll()).hasSize(vouchers.size());
+    }
+
+    @Test
+    @DisplayName("상태를 수정하거나 삭제하면 id로 조회한 결과에 반영되어야 한다.")
+    void updateAndDeleteTest() {
+        // given
+        Voucher used = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        Voucher deleted = voucherRepository.save(new Voucher(1000, expiredAt, FIXED));
+
+        // when
+        voucherRepository.updateStatus(used.id(), USED.name());
+        voucherRepository.deleteById(deleted.id());
+
+        // then
+        assertThat(voucherRepository.findById(used.id()).get().isUsed()).isTrue();
+        assertThat(voucherRepository.findById(deleted.id())).isEmpty();
+        assertThat(voucherRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("상태, 종류, 만료 기간으로 조회하면 조건에 맞는 바우처만 만료 순서대로 조회되어야 한다.")
+    void findAllByTest() {
+        // given
+        Voucher later = voucherRepository.save(new Voucher(10, expiredAt.plusDays(3), PERCENT));
+        Voucher sooner = voucherRepository.save(new Voucher(20, expiredAt.plusDays(1), PERCENT));
+        Voucher used = voucherRepository.save(new Voucher(30, expiredAt.plusDays(2), PERCENT));
+        voucherRepository.save(new Voucher(1000, expiredAt.plusDays(2), FIXED));
+        voucherRepository.save(new Voucher(40, expiredAt.plusDays(8), PERCENT));
+        voucherRepository.updateStatus(used.id(), USED.name());
+
+        // when
+        List<Voucher> found = voucherRepository.findAllBy(ISSUED, PERCENT, expiredAt, expiredAt.plusWeeks(1));
+
+        // then
+        assertThat(found).extracting(Voucher::id).containsExactly(sooner.id(), later.id());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 수정해도 인덱스로 조회한 결과는 저장된 상태와 같아야 한다.")
+    void concurrentIndexTest() throws Exception {
+        // given
+        List<Voucher> vouchers = IntStream.range(0, 100)
+                .mapToObj(hours -> new Voucher(10, expiredAt.plusHours(hours), PERCENT))
+                .toList();
+        voucherRepository.saveAll(vouchers);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<?>> futures = IntStream.range(0, 4)
+                .mapToObj(seed -> executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 10000; i++) {
+                        Voucher voucher = vouchers.get(random.nextInt(vouchers.size()));
+                        switch (random.nextInt(3)) {
+                            case 0 -> voucherRepository.updateStatus(voucher.id(), USED.name());
+                            case 1 -> voucherRepository.deleteById(voucher.id());
+                            default -> voucherRepository.save(voucher);
+                        }
+                    }
+                }))
+                .collect(Collectors.toList());
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        List<UUID> issued = voucherRepository.findAll().stream()
+                .filter(voucher -> voucher.status() == ISSUED)
+                .map(Voucher::id)
+                .toList();
+        assertThat(voucherRepository.findAllBy(ISSUED, PERCENT, expiredAt, expiredAt.plusDays(5)))
+                .extracting(Voucher::id)
+                .containsExactlyInAnyOrderElementsOf(issued);
+    }
+
+    @Test
+    @DisplayName("만료 처리는 발급 상태인 바우처만 만료 상태로 바꿔야 한다.")
+    void expireAllTest() {
+        // given
+        Voucher issued = voucherRepository.save(new Voucher(50, expiredAt, PERCENT));
+        Voucher used = voucherRepository.save(new Voucher(1000, expiredAt, FIXED));
+        voucherRepository.updateStatus(used.id(), USED.name());
+
+        // when
+        int expired = voucherRepository.expireAll(List.of(issued.id(), used.id(), UUID.randomUUID()));
+
+        // then
+        assertThat(expired).isEqualTo(1);
+        assertThat(voucherRepository.findById(issued.id()).get().status()).isEqualTo(EXPIRED);
+        assertThat(voucherRepository.findById(used.id()).get().status()).isEqualTo(USED);
+    }
+
+    @Test
+    @DisplayName("바우처가 모두 빠진 만료 구간은 인덱스에서 제거되어야 한다.")
+    void emptyExpiryBucketTest() {
+        // given
+        MemoryVoucherRepository repository = new MemoryVoucherRepository();
+        Voucher deleted = repository.save(new Voucher(50, expiredAt, PERCENT));
+        Voucher moved = repository.save(new Voucher(1000, expiredAt.plusDays(1), FIXED));
+        Voucher kept = repository.save(new Voucher(10, expiredAt.plusDays(2), PERCENT));
+
+        // when
+        repository.deleteById(deleted.id());
+        repository.save(new Voucher(moved.id(), 1000, expiredAt.plusDays(2), FIXED, ISSUED));
+
+        // then
+        assertThat(repository.expiryBuckets()).isEqualTo(1);
+        assertThat(repository.findAllBy(ISSUED, FIXED, expiredAt, expiredAt.plusDays(3)))
+                .extracting(Voucher::id)
+                .containsExactly(moved.id());
+        assertThat(repository.findById(kept.id())).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 id 이후로 페이지를 이어서 조회하면 삭제되지 않은 바우처를 id 순서대로 한번씩 조회해야 한다.")
+    void findAllAfterTest() {
+        VoucherRepositoryScenarios.assertPagesVisitEachVoucherOnceInIdOrder(voucherRepository);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 사용 처리해도 한번만 성공해야 한다.")
+    void redeemTest() {
+        VoucherRepositoryScenarios.assertRedeemedOnceUnderContention(voucherRepository);
+    }
 }
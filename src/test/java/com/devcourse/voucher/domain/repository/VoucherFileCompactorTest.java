@@ -0,0 +1,57 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoucherFileCompactorTest {
+    private static final String OBJECT_NAME = "com.devcourse:type=Compaction,store=voucher-file";
+
+    @TempDir
+    private Path directory;
+
+    private FileVoucherRepository voucherRepository;
+
+    private VoucherFileCompactor compactor;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        compactor.close();
+        voucherRepository.close();
+    }
+
+    @Test
+    @DisplayName("압축 결과는 JMX로 회수한 바이트와 압축 횟수를 노출해야 한다.")
+    void compactionMXBeanTest() throws Exception {
+        // given
+        voucherRepository = new FileVoucherRepository(directory.resolve("vouchers.txt").toString(),
+                VoucherFileFormat.TEXT, FsyncPolicy.NEVER, 0);
+        for (int i = 0; i < 10; i++) {
+            Voucher voucher = voucherRepository.save(new Voucher(1000, LocalDateTime.of(2030, 1, 1, 0, 0), FIXED));
+            voucherRepository.deleteById(voucher.id());
+        }
+        compactor = new VoucherFileCompactor(voucherRepository, 0.5);
+
+        // when
+        compactor.compactIfNeeded();
+
+        // then
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        assertThat(server.getAttribute(name, "Compactions")).isEqualTo(1L);
+        assertThat((long) server.getAttribute(name, "LastReclaimedBytes")).isPositive();
+        assertThat((double) server.getAttribute(name, "GarbageRatio")).isZero();
+    }
+}
@@ -0,0 +1,91 @@
+package com.devcourse.voucher.domain.repository;
+
+import com.devcourse.voucher.domain.Voucher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static com.devcourse.voucher.domain.Voucher.Type.FIXED;
+import static com.devcourse.voucher.domain.Voucher.Type.PERCENT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class VoucherRepositoryScenarios {
+    private static final LocalDateTime EXPIRED_AT = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private VoucherRepositoryScenarios() { }
+
+    static void assertPagesVisitEachVoucherOnceInIdOrder(VoucherRepository voucherRepository) {
+        // given
+        int pageSize = 3;
+        List<Voucher> vouchers = IntStream.rangeClosed(1, 10)
+                .mapToObj(discount -> new Voucher(discount, EXPIRED_AT, FIXED))
+                .toList();
+        voucherRepository.saveAll(vouchers);
+        Voucher deleted = vouchers.get(4);
+        voucherRepository.deleteById(deleted.id());
+
+        // when
+        List<Voucher> found = new ArrayList<>();
+        List<Voucher> page = voucherRepository.findAllAfter(null, pageSize);
+
+        while (!page.isEmpty()) {
+            assertThat(page).hasSizeLessThanOrEqualTo(pageSize);
+            found.addAll(page);
+            page = voucherRepository.findAllAfter(page.get(page.size() - 1).id(), pageSize);
+        }
+
+        // then
+        List<UUID> expected = vouchers.stream()
+                .map(Voucher::id)
+                .filter(id -> !id.equals(deleted.id()))
+                .toList();
+        assertThat(found).extracting(Voucher::id)
+                .isSorted()
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    static void assertRedeemedOnceUnderContention(VoucherRepository voucherRepository) {
+        // given
+        Voucher voucher = voucherRepository.save(new Voucher(50, EXPIRED_AT, PERCENT));
+        int threads = 16;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<Boolean>> redemptions = IntStream.range(0, threads)
+                .mapToObj(thread -> executor.submit(() -> {
+                    barrier.await();
+                    return voucherRepository.redeem(voucher.id());
+                }))
+                .toList();
+        int redeemed = 0;
+        for (Future<Boolean> redemption : redemptions) {
+            redeemed += join(redemption) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(redeemed).isEqualTo(1);
+        assertThat(voucherRepository.findById(voucher.id()).get().isUsed()).isTrue();
+        assertThat(voucherRepository.redeem(voucher.id())).isFalse();
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}